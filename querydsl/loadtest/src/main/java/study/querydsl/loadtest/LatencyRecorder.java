@@ -0,0 +1,85 @@
+package study.querydsl.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 요청 종류별 latency(마이크로초) / 오류 집계
+ * 측정 구간에서는 모든 값을 보관했다가 종료 시 정렬하여 백분위를 계산
+ * 보내지 못한 요청 (open loop 에서 동시 요청 상한 초과) 은 latency 가 없으므로 rejected 로 따로 셈
+ */
+public class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+    private long rejected;
+
+    public synchronized void record(long latencyMicros, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, latencies.length * 2);
+        }
+        latencies[count++] = latencyMicros;
+        if (error) {
+            errors++;
+        }
+    }
+
+    public synchronized void recordRejected() {
+        rejected++;
+    }
+
+    public synchronized void merge(LatencyRecorder other) {
+        synchronized (other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], false);
+            }
+            errors += other.errors;
+            rejected += other.rejected;
+        }
+    }
+
+    public synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Snapshot(sorted, errors, rejected);
+    }
+
+    /**
+     * @param sorted   보낸 요청의 latency (오름차순)
+     * @param errors   보낸 요청 중 오류 (연결 실패, timeout, 4xx / 5xx)
+     * @param rejected 보내지 못한 요청
+     */
+    public record Snapshot(long[] sorted, long errors, long rejected) {
+
+        public long count() {
+            return sorted.length;
+        }
+
+        public double errorRate() {
+            return sorted.length == 0 ? 0 : (double) errors / sorted.length;
+        }
+
+        /** 보내려 한 요청 중 보내지 못한 비율 */
+        public double rejectedRate() {
+            long attempted = sorted.length + rejected;
+            return attempted == 0 ? 0 : (double) rejected / attempted;
+        }
+
+        public long percentile(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            // nearest-rank, 99.9 / 100.0 * n 의 부동소수점 오차로 한 칸 밀리지 않도록 보정
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length - 1e-9) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        public long max() {
+            return sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+        }
+
+        public double mean() {
+            return sorted.length == 0 ? 0 : Arrays.stream(sorted).average().orElse(0);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package study.querydsl.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 설정된 mode 로 요청을 보내고 요청 종류별 latency 를 기록
+ * warmup 구간의 요청은 보내기만 하고 집계하지 않음
+ */
+public class LoadRunner {
+
+    private final LoadTestConfig config;
+    private final RequestMix mix;
+    private final HttpClient client;
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+
+    public LoadRunner(LoadTestConfig config, RequestMix mix) {
+        this.config = config;
+        this.mix = mix;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(config.requestTimeout())
+                .executor(Executors.newFixedThreadPool(Math.max(2, config.concurrency())))
+                .build();
+        for (RequestMix.Entry entry : mix.entries()) {
+            recorders.put(entry.name(), new LatencyRecorder());
+        }
+    }
+
+    public Map<String, LatencyRecorder> recorders() {
+        return recorders;
+    }
+
+    public void run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long measureTo = measureFrom + config.duration().toNanos();
+
+        switch (config.mode()) {
+            case CLOSED -> runClosedLoop(measureFrom, measureTo);
+            case OPEN -> runOpenLoop(start, measureFrom, measureTo);
+        }
+    }
+
+    private void runClosedLoop(long measureFrom, long measureTo) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency());
+        SplittableRandom seedRandom = new SplittableRandom(config.seed());
+
+        for (int i = 0; i < config.concurrency(); i++) {
+            SplittableRandom random = seedRandom.split();
+            workers.execute(() -> {
+                while (System.nanoTime() < measureTo) {
+                    RequestMix.Entry entry = mix.next(random);
+                    long begin = System.nanoTime();
+                    boolean error = !send(entry);
+                    long end = System.nanoTime();
+                    if (begin >= measureFrom && end <= measureTo) {
+                        recorders.get(entry.name()).record((end - begin) / 1_000, error);
+                    }
+                }
+            });
+        }
+
+        workers.shutdown();
+        if (!workers.awaitTermination(measureTo - System.nanoTime() + config.requestTimeout().toNanos() * 2, TimeUnit.NANOSECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private void runOpenLoop(long start, long measureFrom, long measureTo) throws InterruptedException {
+        long interval = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        Semaphore inFlight = new Semaphore(config.concurrency());
+        SplittableRandom random = new SplittableRandom(config.seed());
+
+        for (long intended = start; intended < measureTo; intended += interval) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            RequestMix.Entry entry = mix.next(random);
+            boolean measured = intended >= measureFrom;
+            long scheduledAt = intended;
+
+            // 동시 요청 상한을 넘으면 보내지 못한 요청으로 따로 집계 (서버가 rate 를 따라오지 못함)
+            // latency 분포에 넣으면 0 에 가까운 값이 백분위를 끌어내리므로 넣지 않음
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    recorders.get(entry.name()).recordRejected();
+                }
+                continue;
+            }
+
+            client.sendAsync(request(entry), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, throwable) -> {
+                        inFlight.release();
+                        // coordinated omission 을 피하기 위해 예정된 시작 시각부터 측정
+                        long end = System.nanoTime();
+                        if (measured && end <= measureTo + config.requestTimeout().toNanos()) {
+                            boolean error = throwable != null || response.statusCode() >= 400;
+                            recorders.get(entry.name()).record((end - scheduledAt) / 1_000, error);
+                        }
+                    });
+        }
+
+        inFlight.tryAcquire(config.concurrency(), config.requestTimeout().toNanos() * 2, TimeUnit.NANOSECONDS);
+    }
+
+    private boolean send(RequestMix.Entry entry) {
+        try {
+            HttpResponse<Void> response = client.send(request(entry), HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private HttpRequest request(RequestMix.Entry entry) {
+        return HttpRequest.newBuilder(entry.uri())
+                .timeout(config.requestTimeout())
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package study.querydsl.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 설정
+ * 기본값(loadtest-default.properties) < --config 파일 < 명령행 --key=value 순으로 덮어씀
+ */
+public class LoadTestConfig {
+
+    public enum Mode {
+        /** 고정된 수의 worker 가 응답을 받은 후 다음 요청을 보냄 */
+        CLOSED,
+        /** 응답과 무관하게 고정 rate 로 요청을 보냄 (latency 는 예정된 시작 시각 기준) */
+        OPEN
+    }
+
+    private final Properties properties;
+
+    private LoadTestConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static LoadTestConfig fromArgs(String[] args) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/loadtest-default.properties")) {
+            properties.load(in);
+        }
+
+        for (String arg : args) {
+            if (arg.startsWith("--config=")) {
+                try (Reader reader = Files.newBufferedReader(Path.of(arg.substring("--config=".length())), StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+            }
+        }
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.startsWith("--config=")) {
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Expected --key=value but got " + arg);
+            }
+            properties.setProperty(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return new LoadTestConfig(properties);
+    }
+
+    public String target() {
+        return properties.getProperty("target");
+    }
+
+    public Mode mode() {
+        return Mode.valueOf(properties.getProperty("mode").toUpperCase());
+    }
+
+    public int concurrency() {
+        return Integer.parseInt(properties.getProperty("concurrency"));
+    }
+
+    public int rate() {
+        return Integer.parseInt(properties.getProperty("rate"));
+    }
+
+    public Duration warmup() {
+        return Duration.parse(properties.getProperty("warmup"));
+    }
+
+    public Duration duration() {
+        return Duration.parse(properties.getProperty("duration"));
+    }
+
+    public Duration requestTimeout() {
+        return Duration.parse(properties.getProperty("request-timeout"));
+    }
+
+    public long seed() {
+        return Long.parseLong(properties.getProperty("seed"));
+    }
+
+    public String mix() {
+        return properties.getProperty("mix");
+    }
+
+    public String output() {
+        return properties.getProperty("output", "");
+    }
+
+    public String label() {
+        return properties.getProperty("label", "");
+    }
+}
@@ -0,0 +1,40 @@
+package study.querydsl.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * /v1/members, /v2/members 부하 테스트
+ *
+ * 1. 서버 실행 (in-memory H2 + InitMember 데이터)
+ *    ./gradlew bootRun --args="--spring.profiles.active=local,loadtest"
+ * 2. 부하 실행
+ *    ./gradlew :loadtest:run --args="--mode=closed --concurrency=32 --duration=PT2M --output=build/loadtest.json --label=$(git rev-parse --short HEAD)"
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+        RequestMix mix = RequestMix.load(config.mix(), config.target());
+
+        System.err.printf("[loadtest] %s mode, target=%s, warmup=%s, duration=%s%n",
+                config.mode(), config.target(), config.warmup(), config.duration());
+
+        LoadRunner runner = new LoadRunner(config, mix);
+        runner.run();
+
+        String json = new LoadTestReport(config, runner.recorders()).toJson();
+        if (config.output().isEmpty()) {
+            System.out.print(json);
+        } else {
+            Path output = Path.of(config.output());
+            if (output.getParent() != null) {
+                Files.createDirectories(output.getParent());
+            }
+            Files.writeString(output, json, StandardCharsets.UTF_8);
+            System.err.println("[loadtest] report written to " + output.toAbsolutePath());
+        }
+        System.exit(0);
+    }
+}
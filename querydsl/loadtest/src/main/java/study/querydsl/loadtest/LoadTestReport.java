@@ -0,0 +1,98 @@
+package study.querydsl.loadtest;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 빌드 간 비교를 위한 JSON 결과
+ * latency 단위는 마이크로초
+ */
+public class LoadTestReport {
+
+    private final LoadTestConfig config;
+    private final Map<String, LatencyRecorder> recorders;
+
+    public LoadTestReport(LoadTestConfig config, Map<String, LatencyRecorder> recorders) {
+        this.config = config;
+        this.recorders = recorders;
+    }
+
+    public String toJson() {
+        double seconds = config.duration().toNanos() / 1_000_000_000.0;
+
+        LatencyRecorder overall = new LatencyRecorder();
+        recorders.values().forEach(overall::merge);
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"label\": ").append(quote(config.label())).append(",\n");
+        json.append("  \"timestamp\": ").append(quote(Instant.now().toString())).append(",\n");
+        json.append("  \"target\": ").append(quote(config.target())).append(",\n");
+        json.append("  \"mode\": ").append(quote(config.mode().name().toLowerCase())).append(",\n");
+        json.append("  \"concurrency\": ").append(config.concurrency()).append(",\n");
+        if (config.mode() == LoadTestConfig.Mode.OPEN) {
+            json.append("  \"targetRate\": ").append(config.rate()).append(",\n");
+        }
+        json.append("  \"durationSeconds\": ").append(format(seconds)).append(",\n");
+        json.append("  \"overall\": ");
+        appendStats(json, overall.snapshot(), seconds, "  ");
+        json.append(",\n");
+        json.append("  \"requests\": [");
+
+        boolean first = true;
+        for (Map.Entry<String, LatencyRecorder> entry : recorders.entrySet()) {
+            json.append(first ? "\n" : ",\n");
+            json.append("    {\"name\": ").append(quote(entry.getKey())).append(", \"stats\": ");
+            appendStats(json, entry.getValue().snapshot(), seconds, "    ");
+            json.append("}");
+            first = false;
+        }
+        json.append("\n  ]\n");
+        json.append("}\n");
+        return json.toString();
+    }
+
+    private void appendStats(StringBuilder json, LatencyRecorder.Snapshot snapshot, double seconds, String indent) {
+        json.append("{")
+                .append("\"count\": ").append(snapshot.count())
+                .append(", \"throughput\": ").append(format(snapshot.count() / seconds))
+                .append(", \"errors\": ").append(snapshot.errors())
+                .append(", \"errorRate\": ").append(format(snapshot.errorRate()))
+                .append(", \"rejected\": ").append(snapshot.rejected())
+                .append(", \"rejectedRate\": ").append(format(snapshot.rejectedRate()))
+                .append(", \"latencyMicros\": {")
+                .append("\"mean\": ").append(format(snapshot.mean()))
+                .append(", \"p50\": ").append(snapshot.percentile(50))
+                .append(", \"p95\": ").append(snapshot.percentile(95))
+                .append(", \"p99\": ").append(snapshot.percentile(99))
+                .append(", \"p999\": ").append(snapshot.percentile(99.9))
+                .append(", \"max\": ").append(snapshot.max())
+                .append("}}");
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,97 @@
+package study.querydsl.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 가중치가 있는 요청 목록
+ * 한 줄에 "weight path [query]" 형식, # 으로 시작하는 줄은 주석
+ */
+public class RequestMix {
+
+    public record Entry(String path, String query, URI uri) {
+
+        /** 결과 집계 단위 (path + 검색 조건 형태) */
+        public String name() {
+            return query.isEmpty() ? path : path + "?" + query;
+        }
+    }
+
+    private final List<Entry> entries;
+    private final int[] cumulativeWeights;
+
+    private RequestMix(List<Entry> entries, int[] cumulativeWeights) {
+        this.entries = entries;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    public static RequestMix load(String location, String target) throws IOException {
+        try (InputStream in = open(location);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<Entry> entries = new ArrayList<>();
+            List<Integer> weights = new ArrayList<>();
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] tokens = line.split("\\s+");
+                if (tokens.length < 2 || tokens.length > 3) {
+                    throw new IllegalArgumentException("Invalid mix line: " + line);
+                }
+                String query = tokens.length == 3 ? tokens[2] : "";
+                URI uri = URI.create(target + tokens[1] + (query.isEmpty() ? "" : "?" + query));
+                entries.add(new Entry(tokens[1], query, uri));
+                weights.add(Integer.parseInt(tokens[0]));
+            }
+
+            if (entries.isEmpty()) {
+                throw new IllegalArgumentException("Request mix is empty: " + location);
+            }
+
+            int[] cumulativeWeights = new int[weights.size()];
+            int sum = 0;
+            for (int i = 0; i < weights.size(); i++) {
+                sum += weights.get(i);
+                cumulativeWeights[i] = sum;
+            }
+            return new RequestMix(List.copyOf(entries), cumulativeWeights);
+        }
+    }
+
+    private static InputStream open(String location) throws IOException {
+        if (location.startsWith("classpath:")) {
+            InputStream in = RequestMix.class.getResourceAsStream("/" + location.substring("classpath:".length()));
+            if (in == null) {
+                throw new IllegalArgumentException("Request mix not found: " + location);
+            }
+            return in;
+        }
+        return Files.newInputStream(Path.of(location));
+    }
+
+    public Entry next(SplittableRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return entries.get(i);
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    public List<Entry> entries() {
+        return entries;
+    }
+}
@@ -0,0 +1,80 @@
+package study.querydsl.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyRecorderTest {
+
+    @Test
+    public void percentiles() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        // 기록 순서와 관계없이 정렬 후 계산, 초기 용량 (1024) 을 넘도록 기록
+        for (int i = 2000; i >= 1; i--) {
+            recorder.record(i, i % 100 == 0);
+        }
+
+        LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(2000);
+        assertThat(snapshot.percentile(50)).isEqualTo(1000);
+        assertThat(snapshot.percentile(95)).isEqualTo(1900);
+        assertThat(snapshot.percentile(99)).isEqualTo(1980);
+        assertThat(snapshot.percentile(99.9)).isEqualTo(1998);
+        assertThat(snapshot.percentile(100)).isEqualTo(2000);
+        assertThat(snapshot.percentile(0)).isEqualTo(1);
+        assertThat(snapshot.max()).isEqualTo(2000);
+        assertThat(snapshot.mean()).isEqualTo(1000.5);
+        assertThat(snapshot.errors()).isEqualTo(20);
+        assertThat(snapshot.errorRate()).isEqualTo(0.01);
+    }
+
+    @Test
+    public void empty() {
+        LatencyRecorder.Snapshot snapshot = new LatencyRecorder().snapshot();
+
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.percentile(99)).isZero();
+        assertThat(snapshot.max()).isZero();
+        assertThat(snapshot.mean()).isZero();
+        assertThat(snapshot.errorRate()).isZero();
+        assertThat(snapshot.rejectedRate()).isZero();
+    }
+
+    @Test
+    public void rejectedAreNotLatencies() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(10_000, false);
+        recorder.record(20_000, false);
+        recorder.recordRejected();
+        recorder.recordRejected();
+
+        LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+
+        // 보내지 못한 요청이 0 에 가까운 latency 로 백분위를 끌어내리지 않음
+        assertThat(snapshot.count()).isEqualTo(2);
+        assertThat(snapshot.percentile(50)).isEqualTo(10_000);
+        assertThat(snapshot.errors()).isZero();
+        assertThat(snapshot.rejected()).isEqualTo(2);
+        assertThat(snapshot.rejectedRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void merge() {
+        LatencyRecorder a = new LatencyRecorder();
+        a.record(1, true);
+        a.recordRejected();
+        LatencyRecorder b = new LatencyRecorder();
+        b.record(3, false);
+        b.record(2, true);
+
+        LatencyRecorder overall = new LatencyRecorder();
+        overall.merge(a);
+        overall.merge(b);
+        LatencyRecorder.Snapshot snapshot = overall.snapshot();
+
+        assertThat(snapshot.sorted()).containsExactly(1, 2, 3);
+        assertThat(snapshot.errors()).isEqualTo(2);
+        assertThat(snapshot.rejected()).isEqualTo(1);
+    }
+}
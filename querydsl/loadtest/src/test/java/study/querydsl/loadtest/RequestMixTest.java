@@ -0,0 +1,88 @@
+package study.querydsl.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class RequestMixTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void load() throws IOException {
+        RequestMix mix = RequestMix.load(write("""
+                # 주석과 빈 줄은 무시
+
+                1 /v1/members
+                3 /v2/members teamName=TeamA&page=0
+                """), "http://localhost:8080");
+
+        assertThat(mix.entries()).extracting(RequestMix.Entry::name)
+                .containsExactly("/v1/members", "/v2/members?teamName=TeamA&page=0");
+        assertThat(mix.entries().get(1).uri().toString())
+                .isEqualTo("http://localhost:8080/v2/members?teamName=TeamA&page=0");
+    }
+
+    @Test
+    public void weighting() throws IOException {
+        RequestMix mix = RequestMix.load(write("""
+                1 /a
+                3 /b
+                6 /c
+                """), "http://localhost");
+
+        SplittableRandom random = new SplittableRandom(1);
+        Map<String, Integer> counts = new HashMap<>();
+        int samples = 100_000;
+        for (int i = 0; i < samples; i++) {
+            counts.merge(mix.next(random).name(), 1, Integer::sum);
+        }
+
+        assertThat(counts.get("/a") / (double) samples).isCloseTo(0.1, within(0.01));
+        assertThat(counts.get("/b") / (double) samples).isCloseTo(0.3, within(0.01));
+        assertThat(counts.get("/c") / (double) samples).isCloseTo(0.6, within(0.01));
+    }
+
+    @Test
+    public void zeroWeightIsNeverPicked() throws IOException {
+        RequestMix mix = RequestMix.load(write("""
+                0 /never
+                1 /always
+                """), "http://localhost");
+
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(mix.next(random).name()).isEqualTo("/always");
+        }
+    }
+
+    @Test
+    public void invalid() throws IOException {
+        Path empty = writeFile("# only comments\n");
+        assertThatThrownBy(() -> RequestMix.load(empty.toString(), "http://localhost"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Path malformed = writeFile("1 /a b c\n");
+        assertThatThrownBy(() -> RequestMix.load(malformed.toString(), "http://localhost"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String write(String content) throws IOException {
+        return writeFile(content).toString();
+    }
+
+    private Path writeFile(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(dir, "mix", ".txt"), content);
+    }
+}
@@ -0,0 +1,25 @@
+package study.querydsl;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA / QueryDSL / JdbcTemplate 이 사용하는 JDBC DataSource
+ * R2DBC ConnectionFactory 가 등록되면 DataSourceAutoConfiguration 이 물러나므로
+ * (@ConditionalOnMissingBean(type = "io.r2dbc.spi.ConnectionFactory")) spring.datasource 설정으로 직접 등록
+ * BeanPostProcessor 가 감싸도 (SlowQueryLogDataSource) 커넥션 풀이 닫히도록 destroyMethod 를 명시
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
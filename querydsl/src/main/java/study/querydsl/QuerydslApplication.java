@@ -2,11 +2,22 @@ package study.querydsl;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import study.querydsl.repository.ReadOnlyJPAQueryFactory;
 
-@SpringBootApplication
+import javax.sql.DataSource;
+
+//R2DBC 는 조회에만 사용, ReactiveTransactionManager 가 함께 등록되면 @Transactional 이 JPA 트랜잭션 매니저를 찾지 못함
+//JDBC DataSource 는 R2DBC 와 함께 쓰기 위해 DataSourceConfig 에서 직접 등록
+@SpringBootApplication(exclude = R2dbcTransactionManagerAutoConfiguration.class)
+@ConfigurationPropertiesScan
 public class QuerydslApplication {
 
 	public static void main(String[] args) {
@@ -15,8 +26,21 @@ public class QuerydslApplication {
 
 	//QueryDSL을 위한 QueryFactory Bean등록
 	@Bean
+	@Primary
 	JPAQueryFactory jpaQueryFactory(EntityManager em) {
 		return new JPAQueryFactory(em);
 	}
 
+	//엔티티를 조회만 하는 경우 사용 (dirty checking 스냅샷 / auto flush 생략)
+	@Bean
+	ReadOnlyJPAQueryFactory readOnlyQueryFactory(EntityManager em) {
+		return new ReadOnlyJPAQueryFactory(em);
+	}
+
+	//spring.main.lazy-initialization 사용 시에도 첫 요청이 느려지지 않도록 영속성 관련 Bean은 기동 시 초기화
+	@Bean
+	static LazyInitializationExcludeFilter eagerPersistenceBeans() {
+		return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, EntityManagerFactory.class, JPAQueryFactory.class);
+	}
+
 }
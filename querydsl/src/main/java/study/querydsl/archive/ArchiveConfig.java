@@ -0,0 +1,65 @@
+package study.querydsl.archive;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.querydsl.readmodel.DataVersion;
+import study.querydsl.readmodel.MemberReadModel;
+
+import static study.querydsl.entity.QMember.member;
+import static study.querydsl.entity.QTeam.team;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "archive", name = "enabled", havingValue = "true")
+public class ArchiveConfig {
+
+    /**
+     * 기본 정책 : archive.team-names 에 속하거나 (archive.without-team 이면) team 이 없는 member
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    MemberArchivePolicy memberArchivePolicy(ArchiveProperties archiveProperties) {
+        return () -> {
+            BooleanBuilder cold = new BooleanBuilder();
+            if (!archiveProperties.getTeamNames().isEmpty()) {
+                cold.or(team.teamName.in(archiveProperties.getTeamNames()));
+            }
+            if (archiveProperties.isWithoutTeam()) {
+                cold.or(member.team.isNull());
+            }
+            return cold.getValue();
+        };
+    }
+
+    @Bean
+    MemberArchiver memberArchiver(ArchiveProperties archiveProperties,
+                                  MemberArchivePolicy memberArchivePolicy,
+                                  JPAQueryFactory jpaQueryFactory,
+                                  NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  ObjectProvider<MemberReadModel> readModels,
+                                  DataVersion dataVersion) {
+        return new MemberArchiver(archiveProperties, memberArchivePolicy, jpaQueryFactory,
+                namedParameterJdbcTemplate, transactionTemplate, readModels, dataVersion);
+    }
+
+    /**
+     * 바인딩된 archive.interval (Duration) 으로 등록
+     * (@Scheduled 의 fixedDelayString 은 Spring 6.1 에서 ISO-8601 / 밀리초만 허용하여 1m 같은 값으로 기동 실패)
+     */
+    @Bean
+    SchedulingConfigurer memberArchiverSchedule(MemberArchiver memberArchiver, ArchiveProperties archiveProperties) {
+        return registrar -> registrar.addFixedDelayTask(
+                new FixedDelayTask(memberArchiver::run, archiveProperties.getInterval(), archiveProperties.getInterval()));
+    }
+}
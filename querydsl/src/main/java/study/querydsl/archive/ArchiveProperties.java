@@ -0,0 +1,31 @@
+package study.querydsl.archive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * cold member 를 member_archive 로 옮기는 배치 설정
+ * cold 조건은 MemberArchivePolicy 빈으로 교체할 수 있고, 기본 정책은 team-names / without-team
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "archive")
+public class ArchiveProperties {
+
+    private boolean enabled = false;
+    // 한 번 실행이 끝난 뒤 다음 실행까지의 간격
+    private Duration interval = Duration.ofMinutes(1);
+    // 트랜잭션 하나에서 옮길 member 수
+    private int chunkSize = 1_000;
+    // 한 번 실행에서 처리할 최대 chunk 수 (나머지는 다음 실행에서)
+    private int maxChunksPerRun = 100;
+
+    // 기본 정책 : 이 team 에 속한 member 를 cold 로 취급
+    private List<String> teamNames = new ArrayList<>();
+    // 기본 정책 : team 이 없는 member 를 cold 로 취급
+    private boolean withoutTeam = false;
+}
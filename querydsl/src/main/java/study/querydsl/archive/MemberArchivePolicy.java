@@ -0,0 +1,12 @@
+package study.querydsl.archive;
+
+import com.querydsl.core.types.Predicate;
+
+/**
+ * member 를 archive 로 옮길지 판단하는 조건
+ * member(QMember.member) 와 team(QTeam.team, left join) 을 기준으로 작성하며, null 이면 옮길 대상 없음
+ */
+public interface MemberArchivePolicy {
+
+    Predicate cold();
+}
@@ -0,0 +1,86 @@
+package study.querydsl.archive;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.querydsl.readmodel.DataVersion;
+import study.querydsl.readmodel.MemberReadModel;
+
+import java.util.List;
+import java.util.Map;
+
+import static study.querydsl.entity.QMember.member;
+import static study.querydsl.entity.QTeam.team;
+
+/**
+ * MemberArchivePolicy 에 해당하는 member 를 chunk 단위로 member_archive 로 옮김
+ * chunk 마다 별도 트랜잭션 (id 조회 -> archive 로 insert select -> member 에서 delete) 이므로
+ * 중간에 중단되어도 옮겨진 chunk 는 유지되고 나머지는 다음 실행에서 이어서 처리
+ * 주기 실행은 ArchiveConfig 에서 archive.interval 로 등록
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class MemberArchiver {
+
+    private final ArchiveProperties archiveProperties;
+    private final MemberArchivePolicy memberArchivePolicy;
+    private final JPAQueryFactory jpaQueryFactory;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<MemberReadModel> readModels;
+    private final DataVersion dataVersion;
+
+    public void run() {
+        archive();
+    }
+
+    /**
+     * @return 옮긴 member 수
+     */
+    public int archive() {
+        Predicate cold = memberArchivePolicy.cold();
+        if (cold == null) {
+            return 0;
+        }
+        long start = System.currentTimeMillis();
+        int moved = 0;
+        for (int chunk = 0; chunk < archiveProperties.getMaxChunksPerRun(); chunk++) {
+            List<Long> ids = transactionTemplate.execute(status -> archiveChunk(cold));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            moved += ids.size();
+            // bulk 연산은 entity listener 를 거치지 않으므로 직접 전달
+            readModels.orderedStream().forEach(readModel -> ids.forEach(readModel::memberRemoved));
+        }
+        if (moved > 0) {
+            log.info("archived {} members, {} ms", moved, System.currentTimeMillis() - start);
+        }
+        return moved;
+    }
+
+    private List<Long> archiveChunk(Predicate cold) {
+        List<Long> ids = jpaQueryFactory
+                .select(member.id)
+                .from(member)
+                .leftJoin(member.team, team)
+                .where(cold)
+                .orderBy(member.id.asc())
+                .limit(archiveProperties.getChunkSize())
+                .fetch();
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        Map<String, List<Long>> parameters = Map.of("ids", ids);
+        jdbcTemplate.update("insert into member_archive (member_id, username, age, team_id)"
+                + " select member_id, username, age, team_id from member where member_id in (:ids)", parameters);
+        jdbcTemplate.update("delete from member where member_id in (:ids)", parameters);
+        dataVersion.changed();
+        return ids;
+    }
+}
@@ -4,25 +4,64 @@ import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.dataset.DatasetProperties;
+import study.querydsl.dataset.MemberDatasetGenerator;
 import study.querydsl.entity.Member;
 import study.querydsl.entity.Team;
+import study.querydsl.readmodel.MemberDataChangedEvent;
 
+@Log4j2
 @Profile("local")
 @Component
 @RequiredArgsConstructor
 public class InitMember {
 
     private final InitMemberService initMemberService;
+    private final DatasetProperties datasetProperties;
+    private final MemberDatasetGenerator memberDatasetGenerator;
+    private final SeedHealthIndicator seedHealthIndicator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /*
     PostConstruct 와 Transactional 은 공존 불가
+    데이터가 많으면 context refresh 가 끝나지 않으므로 초기화는 기동 완료 후 별도 스레드에서 실행하고,
+    완료될 때까지 readiness 는 OUT_OF_SERVICE (liveness 등 다른 endpoint 는 바로 사용 가능)
      */
     @PostConstruct
     public void init(){
-        initMemberService.init();
+        seedHealthIndicator.seeding();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedInBackground() {
+        Thread seeder = new Thread(this::seed, "init-member");
+        seeder.setDaemon(true);
+        seeder.start();
+    }
+
+    private void seed() {
+        try {
+            // dataset.members 를 지정하면 분포 설정에 따른 대용량 데이터로 초기화 (여러 커넥션으로 병렬 적재)
+            if (datasetProperties.getMembers() > 0) {
+                memberDatasetGenerator.generate();
+                // JDBC 로 직접 적재했으므로 entity listener 를 거치지 않음
+                eventPublisher.publishEvent(new MemberDataChangedEvent("dataset generated"));
+            } else {
+                initMemberService.init();
+            }
+            eventPublisher.publishEvent(new SeedCompletedEvent());
+            seedHealthIndicator.completed();
+        } catch (RuntimeException e) {
+            log.error("member seeding failed", e);
+            seedHealthIndicator.failed(e);
+        }
     }
 
     @Component
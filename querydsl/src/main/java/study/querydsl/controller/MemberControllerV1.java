@@ -6,14 +6,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import study.querydsl.dto.MemberSearchCondition;
 import study.querydsl.dto.MemberTeamDto;
-import study.querydsl.repository.MemberJPARepository;
-import study.querydsl.repository.MemberRepository;
+import study.querydsl.repository.MemberRepositoryCustom;
+import study.querydsl.repository.MemberSearchProperties;
+import study.querydsl.repository.UnsupportedSortException;
 
 import java.util.List;
 
@@ -22,18 +26,47 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MemberControllerV1 {
 
-    private final MemberJPARepository memberJPARepository;
-    private final MemberRepository memberRepository;
+    private final MemberRepositoryCustom memberSearchRepository;
+    private final MemberSearchProperties memberSearchProperties;
+    private final MemberSearchETag memberSearchETag;
 
+    /**
+     * If-None-Match 가 현재 ETag 와 같으면 쿼리를 실행하지 않고 304 (member.search.etag=false 면 항상 조회)
+     * 검색은 member.search.backend 로 선택된 구현 (columnar 면 in-memory column store)
+     */
     @GetMapping("/v1/members")
-    public ResponseEntity<List<MemberTeamDto>> memberSearchV1(MemberSearchCondition condition) {
-        List<MemberTeamDto> members = memberJPARepository.searchMemberTeamDtoByCondition(condition);
+    public ResponseEntity<List<MemberTeamDto>> memberSearchV1(MemberSearchCondition condition, WebRequest request) {
+        if (memberSearchETag.notModified(request, "v1", condition, Pageable.unpaged())) {
+            return null;
+        }
+        List<MemberTeamDto> members = memberSearchRepository.search(condition);
         return new ResponseEntity<>(members, HttpStatus.OK);
     }
 
     @GetMapping("/v2/members")
-    public ResponseEntity<Page<MemberTeamDto>> memberSearchV2(MemberSearchCondition condition, Pageable pageable) {
-        Page<MemberTeamDto> members = memberRepository.searchPageComplex(condition, pageable);
+    public ResponseEntity<Page<MemberTeamDto>> memberSearchV2(MemberSearchCondition condition, Pageable pageable,
+                                                              WebRequest request) {
+        if (memberSearchETag.notModified(request, "v2", condition, pageable)) {
+            return null;
+        }
+        Page<MemberTeamDto> members = memberSearchRepository.searchPageComplex(condition, pageable);
         return new ResponseEntity<>(members, HttpStatus.OK);
     }
+
+    /**
+     * 여러 조건을 한 번에 검색 (쿼리 하나, includeArchived 조건이 있으면 archive 쿼리 하나 더), 결과는 요청한 조건 순서대로
+     */
+    @PostMapping("/v1/members/batch")
+    public ResponseEntity<List<List<MemberTeamDto>>> memberSearchBatch(@RequestBody List<MemberSearchCondition> conditions) {
+        if (conditions.size() > memberSearchProperties.getMaxBatchSize()) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        List<List<MemberTeamDto>> members = memberSearchRepository.searchBatch(conditions);
+        return new ResponseEntity<>(members, HttpStatus.OK);
+    }
+
+    @ExceptionHandler(UnsupportedSortException.class)
+    public ResponseEntity<String> unsupportedSort(UnsupportedSortException e) {
+        return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+    }
 }
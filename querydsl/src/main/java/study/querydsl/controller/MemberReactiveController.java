@@ -0,0 +1,29 @@
+package study.querydsl.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.repository.MemberReactiveRepository;
+
+@RestController
+@RequiredArgsConstructor
+public class MemberReactiveController {
+
+    private final MemberReactiveRepository memberReactiveRepository;
+
+    /**
+     * application/x-ndjson 으로 요청하면 row 단위로 스트리밍, application/json 이면 모두 모아서 배열로 응답
+     * 이 애플리케이션은 servlet (Spring MVC) 위에서 동작하므로 Flux 를 async 요청으로 바꿔 줄 뿐 end-to-end non-blocking 이 아님
+     * - DB 조회는 R2DBC 로 non-blocking 이지만 응답은 blocking servlet I/O 로 쓰고, 요청이 끝날 때까지 servlet 요청 / 커넥션을 점유
+     * - 스트리밍 중 backpressure 는 servlet 출력 버퍼가 찰 때 쓰는 스레드가 막히는 정도
+     * 요청 스레드 수의 제약을 없애려면 WebFlux (Netty) 로 띄워야 함
+     */
+    @GetMapping(value = "/reactive/members", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<MemberTeamDto> memberSearchReactive(MemberSearchCondition condition) {
+        return memberReactiveRepository.search(condition);
+    }
+}
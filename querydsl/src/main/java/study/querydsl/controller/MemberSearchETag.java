@@ -0,0 +1,56 @@
+package study.querydsl.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.readmodel.DataVersion;
+import study.querydsl.repository.MemberSearchProperties;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 검색 응답의 ETag = DataVersion + 검색 조건 + 페이지 요청
+ * 데이터가 바뀌지 않았으면 같은 요청에 같은 ETag 가 나오므로 If-None-Match 는 쿼리 없이 304 로 응답
+ * gzip 응답은 바이트가 달라지므로 weak ETag 사용
+ * DataVersion 이 단일 인스턴스 / 단일 writer 에서만 유효하므로 member.search.etag=false 면 ETag 를 쓰지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberSearchETag {
+
+    private final DataVersion dataVersion;
+    private final MemberSearchProperties memberSearchProperties;
+
+    /**
+     * ETag 가 켜져 있고 If-None-Match 가 현재 ETag 와 같으면 true (checkNotModified 가 상태 / ETag 헤더 설정)
+     */
+    public boolean notModified(WebRequest request, String resource, MemberSearchCondition condition, Pageable pageable) {
+        return memberSearchProperties.isEtag() && request.checkNotModified(of(resource, condition, pageable));
+    }
+
+    /**
+     * 쿼리 실행 전에 호출 (실행 중 커밋된 변경은 다음 버전으로 구분됨)
+     */
+    public String of(String resource, MemberSearchCondition condition, Pageable pageable) {
+        long version = dataVersion.current();
+        String key = String.join("|",
+                dataVersion.epoch(),
+                resource,
+                text(condition.getUsername()),
+                text(condition.getTeamName()),
+                String.valueOf(condition.getAgeGoe()),
+                String.valueOf(condition.getAgeLoe()),
+                String.valueOf(condition.isIncludeArchived()),
+                pageable.isPaged() ? pageable.getPageNumber() + "," + pageable.getPageSize() : "unpaged",
+                pageable.getSort().toString());
+        return "W/\"" + version + "-" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // 문자열 조건에 구분자가 들어가도 다른 조건과 key 가 겹치지 않도록 길이를 붙임
+    private static String text(String value) {
+        return value == null ? "" : value.length() + ":" + value;
+    }
+}
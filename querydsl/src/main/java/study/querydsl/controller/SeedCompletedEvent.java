@@ -0,0 +1,8 @@
+package study.querydsl.controller;
+
+/**
+ * 초기 데이터 적재 완료 (readiness 가 UP 으로 바뀌기 직전, 적재 스레드에서 동기로 발행)
+ * 적재된 데이터가 필요한 후처리 (warm-up 등) 가 끝난 뒤 트래픽을 받도록 함
+ */
+public record SeedCompletedEvent() {
+}
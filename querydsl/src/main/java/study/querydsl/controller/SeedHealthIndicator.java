@@ -0,0 +1,51 @@
+package study.querydsl.controller;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+/**
+ * 초기 데이터 적재 상태 (readiness 그룹에 포함)
+ * 적재 대상이 없으면 (InitMember 미사용) 항상 UP
+ */
+@Component
+public class SeedHealthIndicator extends AbstractHealthIndicator {
+
+    private enum State { NONE, SEEDING, COMPLETED, FAILED }
+
+    private volatile State state = State.NONE;
+    private volatile long startedAt;
+    private volatile long completedAt;
+    private volatile Throwable failure;
+
+    public void seeding() {
+        startedAt = System.currentTimeMillis();
+        state = State.SEEDING;
+    }
+
+    public void completed() {
+        completedAt = System.currentTimeMillis();
+        state = State.COMPLETED;
+    }
+
+    public boolean isSeeding() {
+        return state == State.SEEDING;
+    }
+
+    public void failed(Throwable e) {
+        failure = e;
+        state = State.FAILED;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        switch (state) {
+            case NONE -> builder.up();
+            case SEEDING -> builder.outOfService()
+                    .withDetail("elapsedMs", System.currentTimeMillis() - startedAt);
+            case COMPLETED -> builder.up()
+                    .withDetail("durationMs", completedAt - startedAt);
+            case FAILED -> builder.down(failure);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package study.querydsl.dataset;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 대용량 테스트 데이터 분포 설정
+ * 같은 seed 와 설정이면 항상 같은 데이터가 생성됨
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "dataset")
+public class DatasetProperties {
+
+    private long seed = 42L;
+
+    /** 생성할 Member 수 (0 이면 생성하지 않음) */
+    private long members = 0;
+
+    private int teams = 100;
+
+    /** 팀 크기 Zipf 분포 지수 (0 이면 균등, 클수록 상위 팀에 몰림) */
+    private double teamSizeSkew = 1.1;
+
+    /** 팀이 없는 Member 비율 (Member(String username) 생성자로 만든 경우) */
+    private double nullTeamRatio = 0.1;
+
+    /** 나이 정규분포 */
+    private double ageMean = 35;
+    private double ageStdDev = 12;
+    private int ageMin = 0;
+    private int ageMax = 100;
+
+    /** username 길이 (일부는 긴 이름으로 생성) */
+    private int usernameMinLength = 8;
+    private int usernameMaxLength = 16;
+    private double longUsernameRatio = 0.01;
+    private int longUsernameMaxLength = 255;
+
+    /** 한 트랜잭션에서 insert 할 row 수 */
+    private int batchSize = 10_000;
+
+    /** 동시에 적재할 chunk 수 (각각 별도 커넥션 사용, 커넥션 풀 크기보다 작게) */
+    private int parallelism = 4;
+
+    public DatasetProperties copy() {
+        DatasetProperties copy = new DatasetProperties();
+        copy.seed = seed;
+        copy.members = members;
+        copy.teams = teams;
+        copy.teamSizeSkew = teamSizeSkew;
+        copy.nullTeamRatio = nullTeamRatio;
+        copy.ageMean = ageMean;
+        copy.ageStdDev = ageStdDev;
+        copy.ageMin = ageMin;
+        copy.ageMax = ageMax;
+        copy.usernameMinLength = usernameMinLength;
+        copy.usernameMaxLength = usernameMaxLength;
+        copy.longUsernameRatio = longUsernameRatio;
+        copy.longUsernameMaxLength = longUsernameMaxLength;
+        copy.batchSize = batchSize;
+        copy.parallelism = parallelism;
+        return copy;
+    }
+}
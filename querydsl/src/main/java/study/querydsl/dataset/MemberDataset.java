@@ -0,0 +1,101 @@
+package study.querydsl.dataset;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * seed 기반 Member / Team 데이터 분포
+ * - 각 row 는 (seed, index) 만으로 결정되므로 어떤 순서 / 어떤 chunk 로 나누어 생성해도 결과가 같음
+ * - team 크기 : Zipf, age : 정규분포, 일부 Member 는 team 없음, 일부 username 은 긴 문자열
+ */
+public class MemberDataset {
+
+    private static final char[] ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+
+    private final DatasetProperties properties;
+    private final double[] teamCumulative;
+
+    public MemberDataset(DatasetProperties properties) {
+        if (properties.getTeams() <= 0) {
+            throw new IllegalArgumentException("dataset.teams must be positive");
+        }
+        this.properties = properties;
+        this.teamCumulative = zipfCumulative(properties.getTeams(), properties.getTeamSizeSkew());
+    }
+
+    public record MemberRow(long id, String username, int age, Long teamId) {
+    }
+
+    public long memberCount() {
+        return properties.getMembers();
+    }
+
+    public int teamCount() {
+        return properties.getTeams();
+    }
+
+    /** team id 는 1 부터 시작, 작은 id 일수록 큰 팀 */
+    public String teamName(long teamId) {
+        return "Team" + teamId;
+    }
+
+    /** member id 는 1 부터 시작 */
+    public MemberRow member(long id) {
+        SplittableRandom random = new SplittableRandom(mix(properties.getSeed(), id));
+
+        Long teamId = null;
+        if (random.nextDouble() >= properties.getNullTeamRatio()) {
+            teamId = (long) teamIndex(random.nextDouble()) + 1;
+        }
+
+        double gaussian = properties.getAgeMean() + random.nextGaussian() * properties.getAgeStdDev();
+        int age = (int) Math.max(properties.getAgeMin(), Math.min(properties.getAgeMax(), Math.round(gaussian)));
+
+        return new MemberRow(id, username(id, random), age, teamId);
+    }
+
+    private String username(long id, SplittableRandom random) {
+        int length;
+        if (random.nextDouble() < properties.getLongUsernameRatio()) {
+            length = random.nextInt(properties.getUsernameMaxLength(), properties.getLongUsernameMaxLength() + 1);
+        } else {
+            length = random.nextInt(properties.getUsernameMinLength(), properties.getUsernameMaxLength() + 1);
+        }
+
+        // 앞부분에 id 를 넣어 유일성 보장
+        StringBuilder username = new StringBuilder(length).append("Member").append(Long.toString(id, 36));
+        while (username.length() < length) {
+            username.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        return username.toString();
+    }
+
+    private int teamIndex(double uniform) {
+        int index = Arrays.binarySearch(teamCumulative, uniform);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, teamCumulative.length - 1);
+    }
+
+    private static double[] zipfCumulative(int teams, double skew) {
+        double[] cumulative = new double[teams];
+        double sum = 0;
+        for (int rank = 1; rank <= teams; rank++) {
+            sum += 1.0 / Math.pow(rank, skew);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < teams; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    // SplitMix64
+    private static long mix(long seed, long index) {
+        long z = seed + index * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
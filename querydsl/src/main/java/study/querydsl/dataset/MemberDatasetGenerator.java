@@ -0,0 +1,151 @@
+package study.querydsl.dataset;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * MemberDataset 을 DB 에 적재
+ * 수천만 건까지 고려하여 영속성 컨텍스트를 거치지 않고 JDBC batch insert 로 적재하며,
+ * id 를 직접 지정하므로 빈 테이블을 대상으로 실행해야 함 (ddl-auto: create)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class MemberDatasetGenerator {
+
+    // @GeneratedValue 기본 allocationSize
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatasetProperties datasetProperties;
+
+    public MemberDataset dataset() {
+        return new MemberDataset(datasetProperties);
+    }
+
+    public void generate() {
+        generate(datasetProperties);
+    }
+
+    public void generate(DatasetProperties properties) {
+        MemberDataset dataset = new MemberDataset(properties);
+        long start = System.currentTimeMillis();
+
+        insertTeams(dataset);
+        insertMembersInParallel(dataset, properties.getBatchSize(), properties.getParallelism());
+        resetSequences(dataset);
+
+        log.info("dataset generated : teams={}, members={}, seed={}, parallelism={}, {} ms",
+                dataset.teamCount(), dataset.memberCount(), properties.getSeed(), properties.getParallelism(),
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * batchSize 단위 chunk 를 parallelism 개의 스레드(커넥션)로 나누어 적재
+     * 각 row 는 id 만으로 결정되므로 chunk 실행 순서와 무관하게 같은 데이터가 생성됨
+     */
+    public void insertMembersInParallel(MemberDataset dataset, int batchSize, int parallelism) {
+        long toId = dataset.memberCount() + 1;
+        if (parallelism <= 1) {
+            insertMembers(dataset, 1, toId, batchSize);
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long chunkStart = 1; chunkStart < toId; chunkStart += batchSize) {
+                long chunkFrom = chunkStart;
+                long chunkTo = Math.min(chunkStart + batchSize, toId);
+                chunks.add(executor.submit(() -> insertMembers(dataset, chunkFrom, chunkTo, batchSize)));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("dataset generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("dataset generation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void insertTeams(MemberDataset dataset) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate("insert into team (team_id, team_name) values (?, ?)",
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                long teamId = i + 1;
+                                ps.setLong(1, teamId);
+                                ps.setString(2, dataset.teamName(teamId));
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return dataset.teamCount();
+                            }
+                        }));
+    }
+
+    /**
+     * [fromId, toId) 범위의 Member 를 batchSize 단위 트랜잭션으로 적재
+     */
+    public void insertMembers(MemberDataset dataset, long fromId, long toId, int batchSize) {
+        for (long chunkStart = fromId; chunkStart < toId; chunkStart += batchSize) {
+            long chunkFrom = chunkStart;
+            int chunkSize = (int) Math.min(batchSize, toId - chunkStart);
+
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate("insert into member (member_id, username, age, team_id) values (?, ?, ?, ?)",
+                            new BatchPreparedStatementSetter() {
+                                @Override
+                                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                    MemberDataset.MemberRow row = dataset.member(chunkFrom + i);
+                                    ps.setLong(1, row.id());
+                                    ps.setString(2, row.username());
+                                    ps.setInt(3, row.age());
+                                    if (row.teamId() != null) {
+                                        ps.setLong(4, row.teamId());
+                                    } else {
+                                        ps.setNull(4, Types.BIGINT);
+                                    }
+                                }
+
+                                @Override
+                                public int getBatchSize() {
+                                    return chunkSize;
+                                }
+                            }));
+
+            if ((chunkFrom - 1) / 1_000_000 != (chunkFrom + chunkSize - 1) / 1_000_000) {
+                log.info("dataset members inserted up to id {} / {}", chunkFrom + chunkSize - 1, dataset.memberCount());
+            }
+        }
+    }
+
+    /**
+     * 직접 지정한 id 이후부터 Hibernate 가 id 를 발급하도록 시퀀스 재설정
+     */
+    public void resetSequences(MemberDataset dataset) {
+        jdbcTemplate.execute("alter sequence team_seq restart with " + (dataset.teamCount() + SEQUENCE_ALLOCATION_SIZE + 1));
+        jdbcTemplate.execute("alter sequence member_seq restart with " + (dataset.memberCount() + SEQUENCE_ALLOCATION_SIZE + 1));
+    }
+}
@@ -9,4 +9,6 @@ public class MemberSearchCondition {
     private String teamName;
     private Integer ageGoe;
     private Integer ageLoe;
+    // member_archive 로 옮겨진 member 도 함께 검색
+    private boolean includeArchived;
 }
@@ -0,0 +1,32 @@
+package study.querydsl.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * member 테이블에서 옮겨진 cold member (member 와 같은 컬럼, id 도 그대로 유지)
+ * MemberArchiver 가 JDBC 로 옮기므로 애플리케이션에서 직접 저장하지 않음
+ */
+@Entity
+@Table(name = "member_archive", indexes = {
+        @Index(name = "idx_member_archive_username", columnList = "username, member_id"),
+        @Index(name = "idx_member_archive_age", columnList = "age, member_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(of = {"id", "username", "age"})
+public class ArchivedMember {
+
+    @Id
+    @Column(name = "member_id")
+    private Long id;
+    private String username;
+    private int age;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id")
+    private Team team;
+}
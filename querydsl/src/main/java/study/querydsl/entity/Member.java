@@ -2,13 +2,23 @@ package study.querydsl.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import study.querydsl.readmodel.MemberChangeListener;
 
 @Entity
+@EntityListeners(MemberChangeListener.class)
+// 정렬 허용 컬럼 (MemberSort) : member_id 를 포함하여 정렬 + tiebreak 를 index 순서로 읽을 수 있도록
+@Table(indexes = {
+        @Index(name = "idx_member_username", columnList = "username, member_id"),
+        @Index(name = "idx_member_age", columnList = "age, member_id")
+})
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"id", "username", "age"})
+@NamedEntityGraph(name = Member.WITH_TEAM, attributeNodes = @NamedAttributeNode("team"))
 public class Member {
 
+    public static final String WITH_TEAM = "Member.withTeam";
+
     @Id @GeneratedValue
     @Column(name = "member_id")
     private Long id;
@@ -5,21 +5,30 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import study.querydsl.readmodel.MemberChangeListener;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(MemberChangeListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"id", "teamName"})
+// 초기화되지 않은 Team 프록시 / members 컬렉션을 최대 BATCH_SIZE 개씩 한 번에 로딩 (N+1 대신 N/BATCH_SIZE + 1)
+@BatchSize(size = Team.BATCH_SIZE)
 public class Team {
+
+    public static final int BATCH_SIZE = 100;
+
     @Id @GeneratedValue
     @Column(name = "team_id")
     private Long id;
     private String teamName;
 
     @OneToMany(mappedBy = "team")
+    @BatchSize(size = Team.BATCH_SIZE)
     private List<Member> members = new ArrayList<>();
 
     public Team(String teamName) {
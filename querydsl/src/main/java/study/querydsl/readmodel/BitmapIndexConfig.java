@@ -0,0 +1,25 @@
+package study.querydsl.readmodel;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import study.querydsl.repository.MemberRepository;
+import study.querydsl.repository.ReadOnlyJPAQueryFactory;
+
+@Configuration
+@ConditionalOnProperty(prefix = "member.search", name = "backend", havingValue = "bitmap")
+public class BitmapIndexConfig {
+
+    @Bean
+    MemberBitmapIndex memberBitmapIndex(JdbcTemplate jdbcTemplate) {
+        return new MemberBitmapIndex(jdbcTemplate);
+    }
+
+    @Bean
+    BitmapMemberSearchRepository bitmapMemberSearchRepository(MemberBitmapIndex memberBitmapIndex,
+                                                              MemberRepository memberRepository,
+                                                              ReadOnlyJPAQueryFactory readOnlyQueryFactory) {
+        return new BitmapMemberSearchRepository(memberBitmapIndex, memberRepository, readOnlyQueryFactory);
+    }
+}
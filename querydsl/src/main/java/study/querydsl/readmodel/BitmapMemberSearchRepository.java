@@ -0,0 +1,118 @@
+package study.querydsl.readmodel;
+
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.repository.MemberRepositoryCustom;
+import study.querydsl.repository.MemberSearchQueryBuilder;
+import study.querydsl.repository.MemberSort;
+import study.querydsl.repository.ReadOnlyJPAQueryFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static study.querydsl.entity.QMember.member;
+import static study.querydsl.entity.QTeam.team;
+
+/**
+ * MemberBitmapIndex 로 조건을 평가하고, 결과 id 중 필요한 만큼만 QMemberTeamDto 로 조회
+ * - 전체 건수는 bitmap cardinality (count 쿼리 없음)
+ * - 인덱스로 평가할 수 없는 조건(username)이나 member id 순이 아닌 정렬은 JPA 구현으로 위임
+ */
+@RequiredArgsConstructor
+public class BitmapMemberSearchRepository implements MemberRepositoryCustom {
+
+    // in 절 하나에 넣을 id 수
+    private static final int HYDRATE_CHUNK_SIZE = 1000;
+
+    private final MemberBitmapIndex memberBitmapIndex;
+    private final MemberRepositoryCustom fallback;
+    private final ReadOnlyJPAQueryFactory readOnlyQueryFactory;
+
+    @Override
+    public List<MemberTeamDto> search(MemberSearchCondition condition) {
+        if (!memberBitmapIndex.supports(condition)) {
+            return fallback.search(condition);
+        }
+        RoaringBitmap matched = memberBitmapIndex.match(condition);
+        List<MemberTeamDto> contents = new ArrayList<>(matched.getCardinality());
+        for (long offset = 0; offset < matched.getLongCardinality(); offset += HYDRATE_CHUNK_SIZE) {
+            contents.addAll(hydrate(MemberBitmapIndex.page(matched, offset, HYDRATE_CHUNK_SIZE)));
+        }
+        return contents;
+    }
+
+    @Override
+    public Page<MemberTeamDto> searchPageSimple(MemberSearchCondition condition, Pageable pageable) {
+        if (!memberBitmapIndex.supports(condition) || !MemberSort.isMemberIdOrder(pageable.getSort())) {
+            return fallback.searchPageSimple(condition, pageable);
+        }
+        return searchPage(condition, pageable);
+    }
+
+    @Override
+    public Page<MemberTeamDto> searchPageComplex(MemberSearchCondition condition, Pageable pageable) {
+        if (!memberBitmapIndex.supports(condition) || !MemberSort.isMemberIdOrder(pageable.getSort())) {
+            return fallback.searchPageComplex(condition, pageable);
+        }
+        return searchPage(condition, pageable);
+    }
+
+    /**
+     * 조건별 bitmap 의 합집합을 한 번에 조회한 뒤 조건별로 분배
+     */
+    @Override
+    public List<List<MemberTeamDto>> searchBatch(List<MemberSearchCondition> conditions) {
+        if (!conditions.stream().allMatch(memberBitmapIndex::supports)) {
+            return fallback.searchBatch(conditions);
+        }
+        List<RoaringBitmap> matches = conditions.stream().map(memberBitmapIndex::match).toList();
+        RoaringBitmap union = RoaringBitmap.or(matches.iterator());
+
+        Map<Long, MemberTeamDto> hydrated = new HashMap<>(union.getCardinality() * 2);
+        for (long offset = 0; offset < union.getLongCardinality(); offset += HYDRATE_CHUNK_SIZE) {
+            for (MemberTeamDto dto : hydrate(MemberBitmapIndex.page(union, offset, HYDRATE_CHUNK_SIZE))) {
+                hydrated.put(dto.getMemberId(), dto);
+            }
+        }
+
+        List<List<MemberTeamDto>> results = new ArrayList<>(conditions.size());
+        for (RoaringBitmap matched : matches) {
+            List<MemberTeamDto> contents = new ArrayList<>(matched.getCardinality());
+            matched.forEach((int id) -> {
+                MemberTeamDto dto = hydrated.get(Integer.toUnsignedLong(id));
+                if (dto != null) {
+                    contents.add(dto);
+                }
+            });
+            results.add(contents);
+        }
+        return results;
+    }
+
+    private Page<MemberTeamDto> searchPage(MemberSearchCondition condition, Pageable pageable) {
+        RoaringBitmap matched = memberBitmapIndex.match(condition);
+        List<Long> ids = MemberBitmapIndex.page(matched, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(hydrate(ids), pageable, matched.getLongCardinality());
+    }
+
+    private List<MemberTeamDto> hydrate(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // team 컬럼은 alias 로 참조 (member.team.xxx 는 암묵적 inner join 을 추가하여 team 이 없는 member 가 빠짐)
+        return readOnlyQueryFactory
+                .select(MemberSearchQueryBuilder.MEMBER_TEAM)
+                .from(member)
+                .leftJoin(member.team, team)
+                .where(member.id.in(ids))
+                .orderBy(member.id.asc())
+                .fetch();
+    }
+}
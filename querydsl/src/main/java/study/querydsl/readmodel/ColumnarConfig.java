@@ -0,0 +1,23 @@
+package study.querydsl.readmodel;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import study.querydsl.repository.MemberRepository;
+
+@Configuration
+@ConditionalOnProperty(prefix = "member.search", name = "backend", havingValue = "columnar")
+public class ColumnarConfig {
+
+    @Bean
+    MemberColumnStore memberColumnStore(JdbcTemplate jdbcTemplate) {
+        return new MemberColumnStore(jdbcTemplate);
+    }
+
+    @Bean
+    ColumnarMemberSearchRepository columnarMemberSearchRepository(MemberColumnStore memberColumnStore,
+                                                                  MemberRepository memberRepository) {
+        return new ColumnarMemberSearchRepository(memberColumnStore, memberRepository);
+    }
+}
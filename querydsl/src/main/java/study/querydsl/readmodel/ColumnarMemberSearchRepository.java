@@ -0,0 +1,53 @@
+package study.querydsl.readmodel;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.repository.MemberRepositoryCustom;
+
+import java.util.List;
+
+/**
+ * MemberColumnStore 로 DB 를 거치지 않고 검색
+ * column store 에는 live member 만 있으므로 includeArchived 조건은 JPA 구현으로 위임
+ */
+@RequiredArgsConstructor
+public class ColumnarMemberSearchRepository implements MemberRepositoryCustom {
+
+    private final MemberColumnStore memberColumnStore;
+    private final MemberRepositoryCustom fallback;
+
+    @Override
+    public List<MemberTeamDto> search(MemberSearchCondition condition) {
+        if (condition.isIncludeArchived()) {
+            return fallback.search(condition);
+        }
+        return memberColumnStore.search(condition);
+    }
+
+    @Override
+    public Page<MemberTeamDto> searchPageSimple(MemberSearchCondition condition, Pageable pageable) {
+        if (condition.isIncludeArchived()) {
+            return fallback.searchPageSimple(condition, pageable);
+        }
+        return memberColumnStore.search(condition, pageable);
+    }
+
+    @Override
+    public Page<MemberTeamDto> searchPageComplex(MemberSearchCondition condition, Pageable pageable) {
+        if (condition.isIncludeArchived()) {
+            return fallback.searchPageComplex(condition, pageable);
+        }
+        return memberColumnStore.search(condition, pageable);
+    }
+
+    @Override
+    public List<List<MemberTeamDto>> searchBatch(List<MemberSearchCondition> conditions) {
+        if (conditions.stream().anyMatch(MemberSearchCondition::isIncludeArchived)) {
+            return fallback.searchBatch(conditions);
+        }
+        return conditions.stream().map(memberColumnStore::search).toList();
+    }
+}
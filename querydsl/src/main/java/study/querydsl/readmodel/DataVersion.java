@@ -0,0 +1,61 @@
+package study.querydsl.readmodel;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * member / team 데이터의 버전 (변경이 커밋될 때마다 증가, 검색 응답의 ETag 에 사용)
+ * - entity 변경 : MemberChangeListener 가 changed() 호출
+ * - bulk 연산 / JDBC 직접 변경 : MemberDataChangedEvent 발행 (MemberJPARepository.bulkUpdate) 또는 changed() 직접 호출
+ * 트랜잭션 안에서는 커밋된 후에 한 번만 증가 (롤백되면 증가하지 않음)
+ * 프로세스 안의 카운터이므로 재시작 시 값이 겹치지 않도록 epoch 와 함께 사용
+ * 이 인스턴스를 거친 변경만 알 수 있음 : 단일 인스턴스이고 데이터를 쓰는 곳이 이 애플리케이션뿐일 때만 유효
+ * (다른 인스턴스 / 직접 실행한 SQL 의 변경은 반영되지 않으므로 그런 환경에서는 member.search.etag=false)
+ */
+@Component
+public class DataVersion {
+
+    private final String epoch = UUID.randomUUID().toString();
+    private final AtomicLong version = new AtomicLong();
+
+    public String epoch() {
+        return epoch;
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    public void changed() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+        // 같은 트랜잭션에서 여러 건이 변경되어도 synchronization 은 하나만 등록
+        boolean registered = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(synchronization -> synchronization instanceof IncrementAfterCommit);
+        if (!registered) {
+            TransactionSynchronizationManager.registerSynchronization(new IncrementAfterCommit());
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 발행되면 커밋 후에, 밖에서 발행되면 바로 증가
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void dataChanged(MemberDataChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    private class IncrementAfterCommit implements TransactionSynchronization {
+        @Override
+        public void afterCommit() {
+            version.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package study.querydsl.readmodel;
+
+import lombok.extern.log4j.Log4j2;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import study.querydsl.dto.MemberSearchCondition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * member id 에 대한 압축 bitmap 인덱스 (RoaringBitmap)
+ * - team 별 bitmap, age 값 별 bitmap
+ * - teamName / ageGoe / ageLoe 조건은 bitmap OR(같은 이름의 team, 범위 안의 age) 후 AND 로 평가
+ * username 과 archive 는 인덱싱하지 않으므로 username / includeArchived 조건이 있거나 id 가 int 범위를 넘으면 supports() 가 false
+ */
+@Log4j2
+public class MemberBitmapIndex implements MemberReadModel {
+
+    private static final int NO_TEAM = -2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private RoaringBitmap all;
+    private TreeMap<Integer, RoaringBitmap> byAge;
+    private List<RoaringBitmap> byTeam;
+    private Map<Long, Integer> teamOrdinalById;
+    private List<String> teamNames;
+    private Map<String, List<Integer>> teamOrdinalsByName;
+    // 변경 시 이전 bitmap 에서 빼기 위한 현재 값
+    private LongIntHashMap ageById;
+    private LongIntHashMap teamOrdinalByMemberId;
+    private boolean overflowed;
+
+    public MemberBitmapIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        clear();
+    }
+
+    private void clear() {
+        all = new RoaringBitmap();
+        byAge = new TreeMap<>();
+        byTeam = new ArrayList<>();
+        teamOrdinalById = new HashMap<>();
+        teamNames = new ArrayList<>();
+        teamOrdinalsByName = new HashMap<>();
+        ageById = new LongIntHashMap();
+        teamOrdinalByMemberId = new LongIntHashMap();
+        overflowed = false;
+    }
+
+    @Override
+    public void reload() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            clear();
+            jdbcTemplate.query("select team_id, team_name from team",
+                    rs -> {
+                        addTeam(rs.getLong(1), rs.getString(2));
+                    });
+            jdbcTemplate.query("select member_id, age, team_id from member",
+                    rs -> {
+                        long teamId = rs.getLong(3);
+                        // team 을 읽은 뒤 추가된 team 이면 이름 없이 등록 (teamSaved 이벤트로 채워짐)
+                        add(rs.getLong(1), rs.getInt(2), teamOrdinal(rs.wasNull() ? null : teamId, null));
+                    });
+            all.runOptimize();
+            byAge.values().forEach(RoaringBitmap::runOptimize);
+            byTeam.forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("member bitmap index loaded : members={}, teams={}, {} bytes, {} ms",
+                all.getLongCardinality(), byTeam.size(), sizeInBytes(), System.currentTimeMillis() - start);
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void load() {
+        reload();
+    }
+
+    // 트랜잭션 안에서 발행되면 커밋된 데이터를 읽도록 커밋 후에 다시 적재
+    @TransactionalEventListener(fallbackExecution = true)
+    public void dataChanged(MemberDataChangedEvent event) {
+        log.info("reloading member bitmap index : {}", event.reason());
+        reload();
+    }
+
+    @Override
+    public void memberSaved(MemberChange change) {
+        String unknownTeamName = unknownTeamName(change.teamId());
+        lock.writeLock().lock();
+        try {
+            removeFromBitmaps(change.memberId());
+            add(change.memberId(), change.age(), teamOrdinal(change.teamId(), unknownTeamName));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void memberRemoved(long memberId) {
+        lock.writeLock().lock();
+        try {
+            removeFromBitmaps(memberId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void teamSaved(long teamId, String teamName) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = teamOrdinalById.get(teamId);
+            if (ordinal == null) {
+                addTeam(teamId, teamName);
+                return;
+            }
+            String previous = teamNames.get(ordinal);
+            if (!Objects.equals(previous, teamName)) {
+                List<Integer> sameName = teamOrdinalsByName.get(previous);
+                if (sameName != null) {
+                    sameName.remove(ordinal);
+                }
+                teamNames.set(ordinal, teamName);
+                teamOrdinalsByName.computeIfAbsent(teamName, name -> new ArrayList<>(1)).add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스만으로 평가할 수 있는 조건인지
+     */
+    public boolean supports(MemberSearchCondition condition) {
+        return !StringUtils.hasText(condition.getUsername()) && !condition.isIncludeArchived() && !overflowed;
+    }
+
+    /**
+     * 조건을 만족하는 member id (호출한 쪽이 소유하는 복사본)
+     */
+    public RoaringBitmap match(MemberSearchCondition condition) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = all;
+            if (StringUtils.hasText(condition.getTeamName())) {
+                List<RoaringBitmap> teams = new ArrayList<>();
+                for (int ordinal : teamOrdinalsByName.getOrDefault(condition.getTeamName(), List.of())) {
+                    teams.add(byTeam.get(ordinal));
+                }
+                matched = RoaringBitmap.and(matched, RoaringBitmap.or(teams.iterator()));
+            }
+            if (condition.getAgeGoe() != null || condition.getAgeLoe() != null) {
+                int from = condition.getAgeGoe() != null ? condition.getAgeGoe() : Integer.MIN_VALUE;
+                int to = condition.getAgeLoe() != null ? condition.getAgeLoe() : Integer.MAX_VALUE;
+                RoaringBitmap ages = from <= to
+                        ? RoaringBitmap.or(byAge.subMap(from, true, to, true).values().iterator())
+                        : new RoaringBitmap();
+                matched = RoaringBitmap.and(matched, ages);
+            }
+            return matched == all ? all.clone() : matched;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * id 오름차순으로 offset 번째부터 limit 개의 id
+     */
+    public static List<Long> page(RoaringBitmap matched, long offset, int limit) {
+        long cardinality = matched.getLongCardinality();
+        if (offset >= cardinality) {
+            return new ArrayList<>();
+        }
+        List<Long> ids = new ArrayList<>((int) Math.min(limit, cardinality - offset));
+        PeekableIntIterator iterator = matched.getIntIterator();
+        iterator.advanceIfNeeded(matched.select((int) offset));
+        while (iterator.hasNext() && ids.size() < limit) {
+            ids.add(Integer.toUnsignedLong(iterator.next()));
+        }
+        return ids;
+    }
+
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = all.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : byAge.values()) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : byTeam) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(long memberId, int age, int teamOrdinal) {
+        if (memberId < 0 || memberId > Integer.MAX_VALUE) {
+            // RoaringBitmap 은 32bit id 만 저장하므로 이후 검색은 DB 로
+            if (!overflowed) {
+                log.warn("member id {} exceeds bitmap index range, searches will use the database", memberId);
+            }
+            overflowed = true;
+            return;
+        }
+        int id = (int) memberId;
+        all.add(id);
+        byAge.computeIfAbsent(age, key -> new RoaringBitmap()).add(id);
+        if (teamOrdinal != NO_TEAM) {
+            byTeam.get(teamOrdinal).add(id);
+        }
+        ageById.put(memberId, age);
+        teamOrdinalByMemberId.put(memberId, teamOrdinal);
+    }
+
+    private void removeFromBitmaps(long memberId) {
+        int teamOrdinal = teamOrdinalByMemberId.get(memberId);
+        if (teamOrdinal == LongIntHashMap.MISSING) {
+            return;
+        }
+        int id = (int) memberId;
+        all.remove(id);
+        RoaringBitmap ageBitmap = byAge.get(ageById.get(memberId));
+        if (ageBitmap != null) {
+            ageBitmap.remove(id);
+        }
+        if (teamOrdinal != NO_TEAM) {
+            byTeam.get(teamOrdinal).remove(id);
+        }
+        ageById.remove(memberId);
+        teamOrdinalByMemberId.remove(memberId);
+    }
+
+    /**
+     * team 이벤트보다 member 이벤트가 먼저 온 경우 team 이름을 DB 에서 조회 (write lock 을 잡기 전에 호출)
+     */
+    private String unknownTeamName(Long teamId) {
+        if (teamId == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            if (teamOrdinalById.containsKey(teamId)) {
+                return null;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<String> names = jdbcTemplate.queryForList("select team_name from team where team_id = ?", String.class, teamId);
+        return names.isEmpty() ? null : names.get(0);
+    }
+
+    private int teamOrdinal(Long teamId, String unknownTeamName) {
+        if (teamId == null) {
+            return NO_TEAM;
+        }
+        Integer ordinal = teamOrdinalById.get(teamId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        return addTeam(teamId, unknownTeamName);
+    }
+
+    private int addTeam(long teamId, String teamName) {
+        int ordinal = byTeam.size();
+        byTeam.add(new RoaringBitmap());
+        teamNames.add(teamName);
+        teamOrdinalById.put(teamId, ordinal);
+        if (teamName != null) {
+            teamOrdinalsByName.computeIfAbsent(teamName, name -> new ArrayList<>(1)).add(ordinal);
+        }
+        return ordinal;
+    }
+}
@@ -0,0 +1,82 @@
+package study.querydsl.readmodel;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Member / Team 의 entity listener
+ * 등록된 MemberReadModel 에 변경을 전달하며, 트랜잭션 안이면 커밋된 후에 전달 (롤백된 변경은 반영하지 않음)
+ * DataVersion 도 같은 방식으로 커밋 후 증가
+ * Spring 이 관리하지 않는 EntityManagerFactory (shard 등) 에서는 기본 생성자로 만들어지고 아무것도 하지 않음
+ */
+public class MemberChangeListener {
+
+    private final ObjectProvider<MemberReadModel> readModels;
+    private final ObjectProvider<DataVersion> dataVersion;
+
+    public MemberChangeListener() {
+        this.readModels = null;
+        this.dataVersion = null;
+    }
+
+    @Autowired
+    public MemberChangeListener(ObjectProvider<MemberReadModel> readModels, ObjectProvider<DataVersion> dataVersion) {
+        this.readModels = readModels;
+        this.dataVersion = dataVersion;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void saved(Object entity) {
+        if (entity instanceof Member saved) {
+            // team 이 프록시여도 id 조회는 초기화하지 않음
+            Long teamId = saved.getTeam() != null ? saved.getTeam().getId() : null;
+            MemberReadModel.MemberChange change =
+                    new MemberReadModel.MemberChange(saved.getId(), saved.getUsername(), saved.getAge(), teamId);
+            afterCommit(readModel -> readModel.memberSaved(change));
+        } else if (entity instanceof Team saved) {
+            long teamId = saved.getId();
+            String teamName = saved.getTeamName();
+            afterCommit(readModel -> readModel.teamSaved(teamId, teamName));
+        }
+    }
+
+    @PostRemove
+    public void removed(Object entity) {
+        if (entity instanceof Member removed) {
+            long memberId = removed.getId();
+            afterCommit(readModel -> readModel.memberRemoved(memberId));
+        }
+    }
+
+    private void afterCommit(Consumer<MemberReadModel> action) {
+        if (readModels == null) {
+            return;
+        }
+        dataVersion.ifAvailable(DataVersion::changed);
+        List<MemberReadModel> targets = readModels.orderedStream().toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            targets.forEach(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                targets.forEach(action);
+            }
+        });
+    }
+}
@@ -0,0 +1,615 @@
+package study.querydsl.readmodel;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.repository.MemberSort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * MemberSearchCondition 검색용 in-memory column store
+ * - 위치(position) 별 primitive 배열 : member_id, age, team ordinal, username 사전 id
+ * - username 사전 + 같은 username 끼리의 연결 리스트, team 별 posting list, age 값 순으로 정렬된 age posting list
+ * - 변경은 삭제 표시 후 새 위치에 추가 (posting list 는 추가만 하고, 삭제된 위치는 검색 시 건너뜀)
+ *   삭제된 위치가 전체의 COMPACT_RATIO 를 넘으면 살아있는 위치만 member_id 순으로 다시 쌓음
+ * 가장 작은 후보 집합(username > team / age 중 작은 쪽 > 전체)만 훑고 나머지 조건은 컬럼 값으로 확인
+ * 전체 적재(reload)는 lock 밖에서 새 컬럼을 만든 뒤 write lock 안에서 교체하므로 적재 중에도 검색은 기존 컬럼으로 계속됨
+ */
+@Log4j2
+public class MemberColumnStore implements MemberReadModel {
+
+    private static final int NO_TEAM = -1;
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final double COMPACT_RATIO = 0.25;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    // reload 중에 들어온 변경 (새 컬럼으로 교체하기 전에 다시 적용, write lock 으로 보호)
+    private List<Consumer<MemberColumnStore>> pendingChanges;
+
+    // columns
+    private long[] memberIds;
+    private int[] ages;
+    private int[] teamOrdinals;
+    private int[] usernameIds;
+    private int[] nextSameUsername;
+    private BitSet removed;
+    private int size;
+    private boolean orderedByMemberId;
+    private LongIntHashMap positionByMemberId;
+
+    // username 사전
+    private Map<String, Integer> usernameDictionary;
+    private List<String> usernames;
+    private IntList usernameHeads;
+
+    // team
+    private Map<Long, Integer> teamOrdinalById;
+    private List<Long> teamIds;
+    private List<String> teamNames;
+    private Map<String, IntList> teamOrdinalsByName;
+    private List<IntList> teamPostings;
+
+    // age -> positions
+    private TreeMap<Integer, IntList> agePostings;
+
+    public MemberColumnStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        clear();
+    }
+
+    private void clear() {
+        teamOrdinalById = new HashMap<>();
+        teamIds = new ArrayList<>();
+        teamNames = new ArrayList<>();
+        teamOrdinalsByName = new HashMap<>();
+        teamPostings = new ArrayList<>();
+
+        clearMembers(INITIAL_CAPACITY);
+    }
+
+    /**
+     * member 컬럼 / username 사전 / posting list 초기화 (team 사전은 유지)
+     */
+    private void clearMembers(int capacity) {
+        memberIds = new long[capacity];
+        ages = new int[capacity];
+        teamOrdinals = new int[capacity];
+        usernameIds = new int[capacity];
+        nextSameUsername = new int[capacity];
+        removed = new BitSet();
+        size = 0;
+        orderedByMemberId = true;
+        positionByMemberId = new LongIntHashMap();
+
+        usernameDictionary = new HashMap<>();
+        usernames = new ArrayList<>();
+        usernameHeads = new IntList();
+
+        teamPostings.replaceAll(postings -> new IntList());
+        agePostings = new TreeMap<>();
+    }
+
+    /**
+     * DB 의 member / team 전체를 다시 읽어 들임
+     * 읽는 동안에는 기존 컬럼으로 검색하고, 읽는 중에 들어온 변경은 새 컬럼에 다시 적용한 뒤 교체
+     * (이미 반영된 변경을 다시 적용해도 결과가 같음)
+     */
+    @Override
+    public void reload() {
+        long start = System.currentTimeMillis();
+        reloadLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            MemberColumnStore loaded = null;
+            try {
+                loaded = read();
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    if (loaded != null) {
+                        for (Consumer<MemberColumnStore> change : pendingChanges) {
+                            change.accept(loaded);
+                        }
+                        swap(loaded);
+                    }
+                    pendingChanges = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+        log.info("member column store loaded : members={}, {} ms", memberCount(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * lock 없이 새 store 에 적재 (다른 스레드에 공개되지 않음)
+     */
+    private MemberColumnStore read() {
+        MemberColumnStore loaded = new MemberColumnStore(jdbcTemplate);
+        jdbcTemplate.query("select team_id, team_name from team",
+                rs -> {
+                    loaded.addTeam(rs.getLong(1), rs.getString(2));
+                });
+        jdbcTemplate.query("select member_id, username, age, team_id from member order by member_id",
+                rs -> {
+                    long teamId = rs.getLong(4);
+                    // team 을 읽은 뒤 추가된 team 이면 이름 없이 등록 (teamSaved 이벤트로 채워짐)
+                    loaded.append(rs.getLong(1), rs.getString(2), rs.getInt(3), loaded.teamOrdinal(rs.wasNull() ? null : teamId, null));
+                });
+        return loaded;
+    }
+
+    private void swap(MemberColumnStore loaded) {
+        memberIds = loaded.memberIds;
+        ages = loaded.ages;
+        teamOrdinals = loaded.teamOrdinals;
+        usernameIds = loaded.usernameIds;
+        nextSameUsername = loaded.nextSameUsername;
+        removed = loaded.removed;
+        size = loaded.size;
+        orderedByMemberId = loaded.orderedByMemberId;
+        positionByMemberId = loaded.positionByMemberId;
+
+        usernameDictionary = loaded.usernameDictionary;
+        usernames = loaded.usernames;
+        usernameHeads = loaded.usernameHeads;
+
+        teamOrdinalById = loaded.teamOrdinalById;
+        teamIds = loaded.teamIds;
+        teamNames = loaded.teamNames;
+        teamOrdinalsByName = loaded.teamOrdinalsByName;
+        teamPostings = loaded.teamPostings;
+
+        agePostings = loaded.agePostings;
+    }
+
+    private void pending(Consumer<MemberColumnStore> change) {
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void load() {
+        reload();
+    }
+
+    // 트랜잭션 안에서 발행되면 커밋된 데이터를 읽도록 커밋 후에 다시 적재
+    @TransactionalEventListener(fallbackExecution = true)
+    public void dataChanged(MemberDataChangedEvent event) {
+        log.info("reloading member column store : {}", event.reason());
+        reload();
+    }
+
+    @Override
+    public void memberSaved(MemberChange change) {
+        String unknownTeamName = unknownTeamName(change.teamId());
+        lock.writeLock().lock();
+        try {
+            applyMemberSaved(change, unknownTeamName);
+            pending(store -> store.applyMemberSaved(change, unknownTeamName));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void memberRemoved(long memberId) {
+        lock.writeLock().lock();
+        try {
+            applyMemberRemoved(memberId);
+            pending(store -> store.applyMemberRemoved(memberId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void teamSaved(long teamId, String teamName) {
+        lock.writeLock().lock();
+        try {
+            applyTeamSaved(teamId, teamName);
+            pending(store -> store.applyTeamSaved(teamId, teamName));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyMemberSaved(MemberChange change, String unknownTeamName) {
+        int teamOrdinal = teamOrdinal(change.teamId(), unknownTeamName);
+        int existing = positionByMemberId.get(change.memberId());
+        if (existing != LongIntHashMap.MISSING) {
+            if (ages[existing] == change.age()
+                    && teamOrdinals[existing] == teamOrdinal
+                    && Objects.equals(usernames.get(usernameIds[existing]), change.username())) {
+                return;
+            }
+            removed.set(existing);
+        }
+        append(change.memberId(), change.username(), change.age(), teamOrdinal);
+        compactIfNeeded();
+    }
+
+    private void applyMemberRemoved(long memberId) {
+        int position = positionByMemberId.get(memberId);
+        if (position != LongIntHashMap.MISSING) {
+            removed.set(position);
+            positionByMemberId.remove(memberId);
+            compactIfNeeded();
+        }
+    }
+
+    private void applyTeamSaved(long teamId, String teamName) {
+        Integer ordinal = teamOrdinalById.get(teamId);
+        if (ordinal == null) {
+            addTeam(teamId, teamName);
+            return;
+        }
+        String previous = teamNames.get(ordinal);
+        if (!Objects.equals(previous, teamName)) {
+            IntList sameName = teamOrdinalsByName.get(previous);
+            if (sameName != null) {
+                sameName.remove(ordinal);
+            }
+            teamNames.set(ordinal, teamName);
+            teamOrdinalsByName.computeIfAbsent(teamName, name -> new IntList(1)).add(ordinal);
+        }
+    }
+
+    public int memberCount() {
+        lock.readLock().lock();
+        try {
+            return positionByMemberId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 compaction 되지 않은 삭제 표시 위치 수
+     */
+    int tombstoneCount() {
+        lock.readLock().lock();
+        try {
+            return size - positionByMemberId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<MemberTeamDto> search(MemberSearchCondition condition) {
+        lock.readLock().lock();
+        try {
+            IntList matched = match(condition, Integer.MAX_VALUE).positions();
+            return toDtos(matched, 0, matched.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 결과의 한 페이지 (전체 건수는 후보 집합에서 바로 계산)
+     * member_id 순이면 offset + size 개까지만 모아 해당 페이지만 DTO 로 만들고, 다른 정렬이면 전체를 만들어 정렬
+     */
+    public Page<MemberTeamDto> search(MemberSearchCondition condition, Pageable pageable) {
+        Sort sort = pageable.getSort();
+        boolean memberIdOrder = MemberSort.isMemberIdOrder(sort);
+        lock.readLock().lock();
+        try {
+            if (memberIdOrder) {
+                Matches matches = match(condition, (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE));
+                IntList matched = matches.positions();
+                int from = (int) Math.min(pageable.getOffset(), matched.size());
+                return new PageImpl<>(toDtos(matched, from, matched.size()), pageable, matches.total());
+            }
+            IntList matched = match(condition, Integer.MAX_VALUE).positions();
+            int from = (int) Math.min(pageable.getOffset(), matched.size());
+            int to = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), matched.size());
+            List<MemberTeamDto> sorted = toDtos(matched, 0, matched.size());
+            sorted.sort(MemberSort.comparator(sort));
+            return new PageImpl<>(new ArrayList<>(sorted.subList(from, to)), pageable, matched.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param positions member_id 순으로 앞에서부터 최대 limit 개
+     * @param total     조건에 맞는 전체 건수
+     */
+    private record Matches(IntList positions, int total) {
+    }
+
+    /**
+     * 위치 순서가 member_id 순서이면 posting list (위치 오름차순) 마다 limit 개를 모은 뒤에는 건수만 셈
+     */
+    private Matches match(MemberSearchCondition condition, int limit) {
+        String username = StringUtils.hasText(condition.getUsername()) ? condition.getUsername() : null;
+        String teamName = StringUtils.hasText(condition.getTeamName()) ? condition.getTeamName() : null;
+        Integer ageGoe = condition.getAgeGoe();
+        Integer ageLoe = condition.getAgeLoe();
+        IntList matched = new IntList();
+
+        if (username != null) {
+            // 같은 username 의 위치는 최신 순으로 연결되어 있으므로 모두 모아서 정렬 (건수가 적음)
+            Integer usernameId = usernameDictionary.get(username);
+            if (usernameId == null) {
+                return new Matches(matched, 0);
+            }
+            for (int position = usernameHeads.get(usernameId); position != NONE; position = nextSameUsername[position]) {
+                if (matches(position, null, teamName, ageGoe, ageLoe)) {
+                    matched.add(position);
+                }
+            }
+            return new Matches(sortByMemberId(matched, limit), matched.size());
+        }
+
+        List<IntList> teamCandidates = teamName != null ? teamCandidates(teamName) : null;
+        List<IntList> ageCandidates = ageGoe != null || ageLoe != null ? ageCandidates(ageGoe, ageLoe) : null;
+        List<IntList> candidates = teamCandidates;
+        if (candidates == null || (ageCandidates != null && total(ageCandidates) < total(teamCandidates))) {
+            candidates = ageCandidates;
+        }
+
+        if (candidates == null) {
+            int total = positionByMemberId.size();
+            for (int position = 0; position < size && (!orderedByMemberId || matched.size() < limit); position++) {
+                if (!removed.get(position)) {
+                    matched.add(position);
+                }
+            }
+            return new Matches(sortByMemberId(matched, limit), total);
+        }
+        int total = 0;
+        for (IntList postings : candidates) {
+            int collected = 0;
+            for (int i = 0; i < postings.size(); i++) {
+                int position = postings.get(i);
+                if (matches(position, null, teamName, ageGoe, ageLoe)) {
+                    total++;
+                    if (!orderedByMemberId || collected < limit) {
+                        matched.add(position);
+                        collected++;
+                    }
+                }
+            }
+        }
+        return new Matches(sortByMemberId(matched, limit), total);
+    }
+
+    private boolean matches(int position, String username, String teamName, Integer ageGoe, Integer ageLoe) {
+        if (removed.get(position)) {
+            return false;
+        }
+        if (username != null && !username.equals(usernames.get(usernameIds[position]))) {
+            return false;
+        }
+        if (teamName != null && (teamOrdinals[position] == NO_TEAM || !teamName.equals(teamNames.get(teamOrdinals[position])))) {
+            return false;
+        }
+        if (ageGoe != null && ages[position] < ageGoe) {
+            return false;
+        }
+        return ageLoe == null || ages[position] <= ageLoe;
+    }
+
+    private List<IntList> teamCandidates(String teamName) {
+        IntList ordinals = teamOrdinalsByName.get(teamName);
+        if (ordinals == null) {
+            return List.of();
+        }
+        List<IntList> postings = new ArrayList<>(ordinals.size());
+        for (int i = 0; i < ordinals.size(); i++) {
+            postings.add(teamPostings.get(ordinals.get(i)));
+        }
+        return postings;
+    }
+
+    private List<IntList> ageCandidates(Integer ageGoe, Integer ageLoe) {
+        int from = ageGoe != null ? ageGoe : Integer.MIN_VALUE;
+        int to = ageLoe != null ? ageLoe : Integer.MAX_VALUE;
+        if (from > to) {
+            return List.of();
+        }
+        return new ArrayList<>(agePostings.subMap(from, true, to, true).values());
+    }
+
+    private static long total(List<IntList> postings) {
+        long total = 0;
+        for (IntList posting : postings) {
+            total += posting.size();
+        }
+        return total;
+    }
+
+    private IntList sortByMemberId(IntList positions, int limit) {
+        int[] sorted = new int[positions.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = positions.get(i);
+        }
+        if (orderedByMemberId) {
+            // 위치 순서 = member_id 순서
+            Arrays.sort(sorted);
+        } else {
+            sorted = Arrays.stream(sorted).boxed()
+                    .sorted(Comparator.comparingLong(position -> memberIds[position]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+        int count = Math.min(sorted.length, limit);
+        IntList result = new IntList(count);
+        for (int i = 0; i < count; i++) {
+            result.add(sorted[i]);
+        }
+        return result;
+    }
+
+    private List<MemberTeamDto> toDtos(IntList positions, int from, int to) {
+        List<MemberTeamDto> dtos = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            int position = positions.get(i);
+            int teamOrdinal = teamOrdinals[position];
+            dtos.add(new MemberTeamDto(
+                    memberIds[position],
+                    usernames.get(usernameIds[position]),
+                    ages[position],
+                    teamOrdinal != NO_TEAM ? teamIds.get(teamOrdinal) : null,
+                    teamOrdinal != NO_TEAM ? teamNames.get(teamOrdinal) : null));
+        }
+        return dtos;
+    }
+
+    private void append(long memberId, String username, int age, int teamOrdinal) {
+        if (size == memberIds.length) {
+            int capacity = memberIds.length * 2;
+            memberIds = Arrays.copyOf(memberIds, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            teamOrdinals = Arrays.copyOf(teamOrdinals, capacity);
+            usernameIds = Arrays.copyOf(usernameIds, capacity);
+            nextSameUsername = Arrays.copyOf(nextSameUsername, capacity);
+        }
+        int position = size++;
+        if (position > 0 && memberIds[position - 1] > memberId) {
+            orderedByMemberId = false;
+        }
+
+        int usernameId = usernameId(username);
+        memberIds[position] = memberId;
+        ages[position] = age;
+        teamOrdinals[position] = teamOrdinal;
+        usernameIds[position] = usernameId;
+        nextSameUsername[position] = usernameHeads.get(usernameId);
+        usernameHeads.set(usernameId, position);
+
+        if (teamOrdinal != NO_TEAM) {
+            teamPostings.get(teamOrdinal).add(position);
+        }
+        agePostings.computeIfAbsent(age, key -> new IntList()).add(position);
+        positionByMemberId.put(memberId, position);
+    }
+
+    private int usernameId(String username) {
+        Integer usernameId = usernameDictionary.get(username);
+        if (usernameId != null) {
+            return usernameId;
+        }
+        usernameId = usernames.size();
+        usernames.add(username);
+        usernameHeads.add(NONE);
+        if (username != null) {
+            usernameDictionary.put(username, usernameId);
+        }
+        return usernameId;
+    }
+
+    /**
+     * team 이벤트보다 member 이벤트가 먼저 온 경우 team 이름을 DB 에서 조회 (write lock 을 잡기 전에 호출)
+     */
+    private String unknownTeamName(Long teamId) {
+        if (teamId == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            if (teamOrdinalById.containsKey(teamId)) {
+                return null;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<String> names = jdbcTemplate.queryForList("select team_name from team where team_id = ?", String.class, teamId);
+        return names.isEmpty() ? null : names.get(0);
+    }
+
+    private int teamOrdinal(Long teamId, String unknownTeamName) {
+        if (teamId == null) {
+            return NO_TEAM;
+        }
+        Integer ordinal = teamOrdinalById.get(teamId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        return addTeam(teamId, unknownTeamName);
+    }
+
+    private void compactIfNeeded() {
+        int tombstones = size - positionByMemberId.size();
+        if (tombstones >= INITIAL_CAPACITY && tombstones > size * COMPACT_RATIO) {
+            compact();
+        }
+    }
+
+    /**
+     * 살아있는 위치만 member_id 순으로 다시 쌓아 삭제 표시된 위치와 posting list 의 빈 자리를 없앰
+     */
+    private void compact() {
+        long start = System.nanoTime();
+        int tombstones = size - positionByMemberId.size();
+        IntList live = new IntList(positionByMemberId.size());
+        for (int position = 0; position < size; position++) {
+            if (!removed.get(position)) {
+                live.add(position);
+            }
+        }
+        IntList ordered = sortByMemberId(live, Integer.MAX_VALUE);
+
+        long[] oldMemberIds = memberIds;
+        int[] oldAges = ages;
+        int[] oldTeamOrdinals = teamOrdinals;
+        int[] oldUsernameIds = usernameIds;
+        List<String> oldUsernames = usernames;
+
+        clearMembers(Math.max(INITIAL_CAPACITY, ordered.size()));
+        for (int i = 0; i < ordered.size(); i++) {
+            int position = ordered.get(i);
+            append(oldMemberIds[position], oldUsernames.get(oldUsernameIds[position]), oldAges[position], oldTeamOrdinals[position]);
+        }
+        log.debug("member column store compacted : {} tombstones removed, {} members, {} ms",
+                tombstones, size, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private int addTeam(long teamId, String teamName) {
+        int ordinal = teamIds.size();
+        teamIds.add(teamId);
+        teamNames.add(teamName);
+        teamPostings.add(new IntList());
+        teamOrdinalById.put(teamId, ordinal);
+        if (teamName != null) {
+            teamOrdinalsByName.computeIfAbsent(teamName, name -> new IntList(1)).add(ordinal);
+        }
+        return ordinal;
+    }
+}
@@ -0,0 +1,8 @@
+package study.querydsl.readmodel;
+
+/**
+ * entity listener 를 거치지 않고 member / team 이 변경되었음을 알림 (JDBC 적재, bulk update 등)
+ * 이벤트를 받은 MemberReadModel 은 DB 에서 다시 읽어 들임
+ */
+public record MemberDataChangedEvent(String reason) {
+}
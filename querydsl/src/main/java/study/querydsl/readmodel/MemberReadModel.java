@@ -0,0 +1,23 @@
+package study.querydsl.readmodel;
+
+/**
+ * DB 밖에 유지되는 Member 조회 모델
+ * MemberChangeListener 가 커밋된 변경만 전달하며,
+ * JPQL bulk 연산이나 JDBC 직접 적재처럼 entity listener 를 거치지 않는 변경은 MemberDataChangedEvent 로 전달
+ */
+public interface MemberReadModel {
+
+    void memberSaved(MemberChange change);
+
+    void memberRemoved(long memberId);
+
+    void teamSaved(long teamId, String teamName);
+
+    void reload();
+
+    /**
+     * 변경 시점의 Member 값 (커밋 후 lazy loading 없이 반영할 수 있도록 id 만 보관)
+     */
+    record MemberChange(long memberId, String username, int age, Long teamId) {
+    }
+}
@@ -0,0 +1,56 @@
+package study.querydsl.repository;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.dto.QMemberTeamDto;
+
+import static study.querydsl.entity.QArchivedMember.archivedMember;
+import static study.querydsl.entity.QTeam.team;
+
+/**
+ * member_archive 대상 검색 / count 쿼리 (join 규칙과 조건은 MemberSearchQueryBuilder 와 같음)
+ */
+@RequiredArgsConstructor
+public class ArchivedMemberSearchQueryBuilder {
+
+    public static final MemberSort.SortPaths SORT_PATHS = new MemberSort.SortPaths(
+            archivedMember.id, archivedMember.username, archivedMember.age, archivedMember.team.id);
+
+    private final JPAQueryFactory queryFactory;
+
+    public JPAQuery<MemberTeamDto> content(MemberSearchCondition condition) {
+        JPAQuery<MemberTeamDto> query = queryFactory
+                .select(new QMemberTeamDto(
+                        archivedMember.id,
+                        archivedMember.username,
+                        archivedMember.age,
+                        team.id,
+                        team.teamName
+                ))
+                .from(archivedMember);
+        if (MemberSearchQueryBuilder.filtersByTeam(condition)) {
+            query.join(archivedMember.team, team);
+        } else {
+            query.leftJoin(archivedMember.team, team);
+        }
+        return query.where(where(condition));
+    }
+
+    public JPAQuery<Long> count(MemberSearchCondition condition) {
+        JPAQuery<Long> query = queryFactory
+                .select(archivedMember.count())
+                .from(archivedMember);
+        if (MemberSearchQueryBuilder.filtersByTeam(condition)) {
+            query.join(archivedMember.team, team);
+        }
+        return query.where(where(condition));
+    }
+
+    private static Predicate[] where(MemberSearchCondition condition) {
+        return MemberSearchQueryBuilder.where(condition, archivedMember.username, archivedMember.age);
+    }
+}
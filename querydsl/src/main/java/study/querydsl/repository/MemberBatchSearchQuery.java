@@ -0,0 +1,113 @@
+package study.querydsl.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.entity.QTeam;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static study.querydsl.entity.QArchivedMember.archivedMember;
+import static study.querydsl.entity.QMember.member;
+import static study.querydsl.entity.QTeam.team;
+
+/**
+ * 여러 MemberSearchCondition 을 쿼리 하나로 조회
+ * - 조건마다 MemberSearchQueryBuilder.fixedShapeWhere 로 branch predicate 를 만들고
+ *   where 는 branch 들의 or, select 에는 branch 별 일치 여부 (case when) 를 붙여 조건별로 분배
+ * - 조건 값의 유무와 관계없이 HQL 모양이 같고 branch 수는 2 의 거듭제곱으로 채우므로 (빈 branch 는 enabled=false)
+ *   HQL 종류는 batch 크기의 log2 가지 (쿼리 플랜 캐시가 넘치지 않음)
+ * - includeArchived 조건이 하나라도 있으면 ArchivedMember 에 같은 쿼리를 하나 더 실행 (batch 당 최대 2 번)
+ * case when 안의 조건 값이 리터럴로 들어가지 않도록 (HQL 템플릿은 case 안의 상수를 리터럴로 쓸 수 있음) 기본 JPQL 템플릿 사용
+ */
+public class MemberBatchSearchQuery {
+
+    private static final NumberExpression<Integer> MATCHED = Expressions.numberTemplate(Integer.class, "1");
+    private static final NumberExpression<Integer> NOT_MATCHED = Expressions.numberTemplate(Integer.class, "0");
+
+    private final JPAQueryFactory queryFactory;
+
+    public MemberBatchSearchQuery(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(JPQLTemplates.DEFAULT, em);
+    }
+
+    /**
+     * @return 조건 순서대로의 검색 결과 (조건마다 member id 순, archive 는 그 뒤에)
+     */
+    public List<List<MemberTeamDto>> fetch(List<MemberSearchCondition> conditions) {
+        List<List<MemberTeamDto>> results = new ArrayList<>(conditions.size());
+        for (int i = 0; i < conditions.size(); i++) {
+            results.add(new ArrayList<>());
+        }
+        if (conditions.isEmpty()) {
+            return results;
+        }
+
+        fetch(conditions, condition -> true,
+                member, member.team, member.id, member.username, member.age, results);
+        if (conditions.stream().anyMatch(MemberSearchCondition::isIncludeArchived)) {
+            fetch(conditions, MemberSearchCondition::isIncludeArchived,
+                    archivedMember, archivedMember.team, archivedMember.id, archivedMember.username, archivedMember.age, results);
+        }
+        return results;
+    }
+
+    /**
+     * @param enabled 조건별로 이 entity 를 조회할지 (archive 는 includeArchived 인 조건만)
+     * @param from    member 또는 archivedMember (memberTeam / id / username / age 는 그 경로)
+     */
+    private void fetch(List<MemberSearchCondition> conditions, Function<MemberSearchCondition, Boolean> enabled,
+                       EntityPath<?> from, QTeam memberTeam, NumberPath<Long> id, StringPath username,
+                       NumberPath<Integer> age, List<List<MemberTeamDto>> results) {
+        int branches = Integer.highestOneBit(conditions.size() * 2 - 1);
+        List<Predicate> predicates = new ArrayList<>(branches);
+        List<Expression<?>> select = new ArrayList<>(List.of(id, username, age, team.id, team.teamName));
+        for (int i = 0; i < branches; i++) {
+            BooleanExpression predicate = i < conditions.size()
+                    ? MemberSearchQueryBuilder.fixedShapeWhere(conditions.get(i), username, age, enabled.apply(conditions.get(i)))
+                    : MemberSearchQueryBuilder.fixedShapeWhere(new MemberSearchCondition(), username, age, false);
+            predicates.add(predicate);
+            select.add(new CaseBuilder().when(predicate).then(MATCHED).otherwise(NOT_MATCHED));
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(select.toArray(Expression[]::new))
+                .from(from)
+                .leftJoin(memberTeam, team)
+                .where(ExpressionUtils.anyOf(predicates))
+                .orderBy(id.asc())
+                .fetch();
+
+        // 앞의 5 개 컬럼 뒤에 branch 별 일치 여부
+        int columns = 5;
+        for (Tuple row : rows) {
+            MemberTeamDto dto = new MemberTeamDto(
+                    row.get(id),
+                    row.get(username),
+                    row.get(age),
+                    row.get(team.id),
+                    row.get(team.teamName));
+            for (int i = 0; i < conditions.size(); i++) {
+                Integer matched = row.get(columns + i, Integer.class);
+                if (matched != null && matched == 1) {
+                    results.get(i).add(dto);
+                }
+            }
+        }
+    }
+}
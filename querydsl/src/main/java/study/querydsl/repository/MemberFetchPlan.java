@@ -0,0 +1,12 @@
+package study.querydsl.repository;
+
+/**
+ * Member 를 반환하는 조회에서 함께 로딩할 연관관계
+ * 호출하는 쪽이 필요한 연관관계만 한 번의 쿼리로 로딩하도록 선택 (team 이 필요하면 WITH_TEAM, 아니면 N+1 대신 프록시 유지)
+ */
+public enum MemberFetchPlan {
+    /** team 은 초기화되지 않은 프록시 */
+    MEMBER_ONLY,
+    /** team 을 fetch join (team 이 없는 member 도 포함) */
+    WITH_TEAM
+}
@@ -1,11 +1,14 @@
 package study.querydsl.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.dml.DMLClause;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 import study.querydsl.dto.MemberSearchCondition;
@@ -13,9 +16,11 @@ import study.querydsl.dto.MemberTeamDto;
 import study.querydsl.dto.QMemberTeamDto;
 import study.querydsl.entity.Member;
 import study.querydsl.entity.QTeam;
+import study.querydsl.readmodel.MemberDataChangedEvent;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static study.querydsl.entity.QMember.member;
 import static study.querydsl.entity.QTeam.team;
@@ -25,6 +30,8 @@ import static study.querydsl.entity.QTeam.team;
 public class MemberJPARepository {
     private final EntityManager em;
     private final JPAQueryFactory jpaQueryFactory;
+    private final ReadOnlyJPAQueryFactory readOnlyQueryFactory;
+    private final ApplicationEventPublisher eventPublisher;
 
 //    Bean으로 QueryFactory를 등록했으므로, 의존성 주입만 받음
 //    public MemberJPARepository(EntityManager em) {
@@ -36,12 +43,25 @@ public class MemberJPARepository {
         em.persist(member);
     }
 
+    /**
+     * JPQL bulk update / delete (트랜잭션 안에서 호출)
+     * entity listener 를 거치지 않으므로 영속성 컨텍스트를 비우고 MemberDataChangedEvent 발행 (커밋 후 read model / DataVersion 반영)
+     */
+    public long bulkUpdate(String reason, Function<JPAQueryFactory, ? extends DMLClause<?>> clause) {
+        long count = clause.apply(jpaQueryFactory).execute();
+        em.clear();
+        if (count > 0) {
+            eventPublisher.publishEvent(new MemberDataChangedEvent(reason));
+        }
+        return count;
+    }
+
     public Optional<Member> findById(Long id) {
         return Optional.ofNullable(em.find(Member.class, id));
     }
 
     public Optional<Member> findByIdQueryDsl(Long id) {
-        return Optional.ofNullable(jpaQueryFactory
+        return Optional.ofNullable(readOnlyQueryFactory
                 .selectFrom(member)
                 .where(member.id.eq(id))
                 .fetchOne());
@@ -52,8 +72,11 @@ public class MemberJPARepository {
     }
 
     public List<Member> findAllQueryDsl() {
-        return jpaQueryFactory
-                .selectFrom(member)
+        return findAllQueryDsl(MemberFetchPlan.MEMBER_ONLY);
+    }
+
+    public List<Member> findAllQueryDsl(MemberFetchPlan fetchPlan) {
+        return selectMember(fetchPlan)
                 .fetch();
     }
 
@@ -64,12 +87,23 @@ public class MemberJPARepository {
     }
 
     public List<Member> findByUsernameQueryDsl(String username) {
-        return jpaQueryFactory
-                .selectFrom(member)
+        return findByUsernameQueryDsl(username, MemberFetchPlan.MEMBER_ONLY);
+    }
+
+    public List<Member> findByUsernameQueryDsl(String username, MemberFetchPlan fetchPlan) {
+        return selectMember(fetchPlan)
                 .where(member.username.eq(username))
                 .fetch();
     }
 
+    private JPAQuery<Member> selectMember(MemberFetchPlan fetchPlan) {
+        JPAQuery<Member> query = readOnlyQueryFactory.selectFrom(member);
+        if (fetchPlan == MemberFetchPlan.WITH_TEAM) {
+            query.leftJoin(member.team, team).fetchJoin();
+        }
+        return query;
+    }
+
     public List<MemberTeamDto> searchMemberTeamDtoByCondition(MemberSearchCondition memberSearchCondition){
         BooleanBuilder builder = new BooleanBuilder();
         if (StringUtils.hasText(memberSearchCondition.getUsername())) {
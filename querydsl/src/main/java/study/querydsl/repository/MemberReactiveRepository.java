@@ -0,0 +1,68 @@
+package study.querydsl.repository;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * R2DBC 기반 회원 검색 (non-blocking)
+ * 조건은 MemberRepositoryCustomImpl 의 usernameEq / teamNameEq / ageGoe / ageLoe 와 동일
+ * (값이 없거나 빈 문자열이면 조건에서 제외)
+ */
+@Repository
+public class MemberReactiveRepository {
+
+    private static final String SELECT = "select m.member_id, m.username, m.age, t.team_id, t.team_name"
+            + " from member m left join team t on m.team_id = t.team_id";
+
+    private final DatabaseClient databaseClient;
+
+    public MemberReactiveRepository(ConnectionFactory connectionFactory) {
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    public Flux<MemberTeamDto> search(MemberSearchCondition condition) {
+        List<String> where = new ArrayList<>();
+        Map<String, Object> binds = new LinkedHashMap<>();
+
+        if (StringUtils.hasText(condition.getUsername())) {
+            where.add("m.username = :username");
+            binds.put("username", condition.getUsername());
+        }
+        if (StringUtils.hasText(condition.getTeamName())) {
+            where.add("t.team_name = :teamName");
+            binds.put("teamName", condition.getTeamName());
+        }
+        if (condition.getAgeGoe() != null) {
+            where.add("m.age >= :ageGoe");
+            binds.put("ageGoe", condition.getAgeGoe());
+        }
+        if (condition.getAgeLoe() != null) {
+            where.add("m.age <= :ageLoe");
+            binds.put("ageLoe", condition.getAgeLoe());
+        }
+
+        String sql = where.isEmpty() ? SELECT : SELECT + " where " + String.join(" and ", where);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> bind : binds.entrySet()) {
+            spec = spec.bind(bind.getKey(), bind.getValue());
+        }
+
+        return spec.map((row, metadata) -> new MemberTeamDto(
+                        row.get("member_id", Long.class),
+                        row.get("username", String.class),
+                        row.get("age", Integer.class),
+                        row.get("team_id", Long.class),
+                        row.get("team_name", String.class)))
+                .all();
+    }
+}
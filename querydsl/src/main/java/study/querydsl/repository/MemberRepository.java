@@ -1,5 +1,6 @@
 package study.querydsl.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import study.querydsl.entity.Member;
@@ -10,4 +11,12 @@ import java.util.List;
 public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
 
     List<Member> findByUsername(String username);
+
+    // Member.withTeam 엔티티 그래프 : team 을 함께 조회
+    @EntityGraph(Member.WITH_TEAM)
+    List<Member> findWithTeamByUsername(String username);
+
+    default List<Member> findByUsername(String username, MemberFetchPlan fetchPlan) {
+        return fetchPlan == MemberFetchPlan.WITH_TEAM ? findWithTeamByUsername(username) : findByUsername(username);
+    }
 }
@@ -14,4 +14,9 @@ public interface MemberRepositoryCustom {
     List<MemberTeamDto> search(MemberSearchCondition condition);
     Page<MemberTeamDto> searchPageSimple(MemberSearchCondition condition, Pageable pageable);
     Page<MemberTeamDto> searchPageComplex(MemberSearchCondition condition, Pageable pageable);
+
+    /**
+     * 여러 조건을 한 번에 검색 (결과는 조건 순서대로)
+     */
+    List<List<MemberTeamDto>> searchBatch(List<MemberSearchCondition> conditions);
 }
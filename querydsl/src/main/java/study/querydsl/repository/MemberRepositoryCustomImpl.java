@@ -1,146 +1,172 @@
 package study.querydsl.repository;
 
-import com.querydsl.core.QueryResults;
-import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
-import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
-import org.springframework.util.StringUtils;
 import study.querydsl.dto.MemberSearchCondition;
 import study.querydsl.dto.MemberTeamDto;
-import study.querydsl.dto.QMemberTeamDto;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-
-import static study.querydsl.entity.QMember.member;
-import static study.querydsl.entity.QTeam.team;
+import java.util.Map;
 
 @Repository
-@RequiredArgsConstructor
 public class MemberRepositoryCustomImpl implements MemberRepositoryCustom{
 
-    private final JPAQueryFactory jpaQueryFactory;
+    // 조건에 필요한 join 만 붙임 (count 쿼리는 teamName 조건이 없으면 join 없음)
+    private final MemberSearchQueryBuilder queryBuilder;
+    // includeArchived 일 때만 사용
+    private final ArchivedMemberSearchQueryBuilder archivedQueryBuilder;
+    // 여러 조건을 쿼리 하나로 조회 (archive 포함 조건이 있으면 하나 더)
+    private final MemberBatchSearchQuery batchSearchQuery;
+    private final MemberSearchProperties.Paging paging;
+
+    public MemberRepositoryCustomImpl(JPAQueryFactory jpaQueryFactory, EntityManager em,
+                                      MemberSearchProperties memberSearchProperties) {
+        this.queryBuilder = new MemberSearchQueryBuilder(jpaQueryFactory);
+        this.archivedQueryBuilder = new ArchivedMemberSearchQueryBuilder(jpaQueryFactory);
+        this.batchSearchQuery = new MemberBatchSearchQuery(em);
+        this.paging = memberSearchProperties.getPaging();
+    }
 
     @Override
     public List<MemberTeamDto> search(MemberSearchCondition condition) {
-        return jpaQueryFactory
-                .select(new QMemberTeamDto(
-                        member.id,
-                        member.username,
-                        member.age,
-                        member.team.id,
-                        member.team.teamName
-                ))
-                .from(member)
-                .leftJoin(member.team, team)
-                .where(
-                        usernameEq(condition.getUsername()),
-                        teamNameEq(condition.getTeamName()),
-                        ageGoe(condition.getAgeGoe()),
-                        ageLoe(condition.getAgeLoe())
-                )
-                .fetch();
-    }
-    private BooleanExpression usernameEq(String username) {
-        return StringUtils.hasText(username) ? member.username.eq(username) : null;
+        List<MemberTeamDto> contents = queryBuilder.content(condition).fetch();
+        if (condition.isIncludeArchived()) {
+            contents = new ArrayList<>(contents);
+            contents.addAll(archivedQueryBuilder.content(condition).fetch());
+        }
+        return contents;
     }
 
-    private BooleanExpression teamNameEq(String teamName) {
-        return StringUtils.hasText(teamName) ? member.team.teamName.eq(teamName) : null;
+    @Override
+    public Page<MemberTeamDto> searchPageSimple(MemberSearchCondition condition, Pageable pageable) {
+        if (condition.isIncludeArchived()) {
+            return searchPageIncludingArchive(condition, pageable);
+        }
+        if (paging == MemberSearchProperties.Paging.WINDOW_COUNT) {
+            return searchPageWindowCount(condition, pageable);
+        }
+        List<MemberTeamDto> contents = contentPage(condition, pageable);
+
+        // fetchResults() 는 content 쿼리의 join 을 그대로 count 에 사용하므로 count 쿼리를 따로 실행
+        Long totalCount = queryBuilder.count(condition).fetchOne();
+
+        return new PageImpl<MemberTeamDto>(contents, pageable, totalCount != null ? totalCount : 0);
     }
 
-    private BooleanExpression ageGoe(Integer ageGoe) {
-        return ageGoe != null ? member.age.goe(ageGoe) : null;
-    }
+    @Override
+    public Page<MemberTeamDto> searchPageComplex(MemberSearchCondition condition, Pageable pageable) {
+        if (condition.isIncludeArchived()) {
+            return searchPageIncludingArchive(condition, pageable);
+        }
+        if (paging == MemberSearchProperties.Paging.WINDOW_COUNT) {
+            return searchPageWindowCount(condition, pageable);
+        }
+        List<MemberTeamDto> contents = contentPage(condition, pageable);
+
+        JPAQuery<Long> countQuery = queryBuilder.count(condition);
 
-    private BooleanExpression ageLoe(Integer ageLoe) {
-        return ageLoe != null ? member.age.loe(ageLoe) : null;
+        /**
+         * count 쿼리가 실행되지 않는 경우 : 마지막 페이지일 때
+         * 1. 시작 페이지면서 조회된 데이터의 갯수가 페이지 크기보다 작을 때
+         * 2. 맨 마지막 페이지이면서 조회된 갯수가 페이지 크기보다 작을 때
+         */
+        return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
     }
 
-    @Override
-    public Page<MemberTeamDto> searchPageSimple(MemberSearchCondition condition, Pageable pageable) {
-        QueryResults<MemberTeamDto> result = jpaQueryFactory
-                .select(new QMemberTeamDto(
-                        member.id,
-                        member.username,
-                        member.age,
-                        member.team.id,
-                        member.team.teamName
-                ))
-                .from(member)
-                .leftJoin(member.team, team)
-                .where(
-                        usernameEq(condition.getUsername()),
-                        teamNameEq(condition.getTeamName()),
-                        ageGoe(condition.getAgeGoe()),
-                        ageLoe(condition.getAgeLoe())
-                )
+    private List<MemberTeamDto> contentPage(MemberSearchCondition condition, Pageable pageable) {
+        if (paging == MemberSearchProperties.Paging.DEFERRED_JOIN) {
+            return deferredJoinPage(condition, pageable);
+        }
+        return queryBuilder.content(condition)
+                .orderBy(MemberSort.orderSpecifiers(pageable.getSort()))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetchResults();
-
-        List<MemberTeamDto> contents = result.getResults();
-        long totalCount = result.getTotal();
+                .fetch();
+    }
 
-        return new PageImpl<MemberTeamDto>(contents, pageable, totalCount);
+    /**
+     * 1. 같은 조건 / 정렬로 페이지의 member id 만 조회 ((컬럼, member_id) index 만 읽고 건너뛴 row 는 만들지 않음)
+     * 2. 그 id 들만 team 과 join 하여 조회 후 1 의 순서로 정렬
+     */
+    private List<MemberTeamDto> deferredJoinPage(MemberSearchCondition condition, Pageable pageable) {
+        List<Long> ids = queryBuilder.ids(condition)
+                .orderBy(MemberSort.orderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
+        List<MemberTeamDto> contents = new ArrayList<>(queryBuilder.contentByIds(ids).fetch());
+        contents.sort(Comparator.comparing(dto -> positions.get(dto.getMemberId())));
+        return contents;
     }
 
-    @Override
-    public Page<MemberTeamDto> searchPageComplex(MemberSearchCondition condition, Pageable pageable) {
-        List<MemberTeamDto> contents = jpaQueryFactory
-                .select(new QMemberTeamDto(
-                        member.id,
-                        member.username,
-                        member.age,
-                        member.team.id,
-                        member.team.teamName
-                ))
-                .from(member)
-                .leftJoin(member.team, team)
-                .where(
-                        usernameEq(condition.getUsername()),
-                        teamNameEq(condition.getTeamName()),
-                        ageGoe(condition.getAgeGoe()),
-                        ageLoe(condition.getAgeLoe())
-                )
+    /**
+     * content 와 전체 건수를 count(*) over() 로 한 번에 조회
+     * 빈 페이지는 전체 건수를 알 수 없으므로 첫 페이지면 0, 아니면 count 쿼리
+     */
+    private Page<MemberTeamDto> searchPageWindowCount(MemberSearchCondition condition, Pageable pageable) {
+        List<Tuple> rows = queryBuilder.contentWithTotalCount(condition)
+                .orderBy(MemberSort.orderSpecifiers(pageable.getSort()))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-//        Long totalCount = jpaQueryFactory
-//                .select(member.count())
-//                .from(member)
-//                .leftJoin(member.team, team)
-//                .where(
-//                        usernameEq(condition.getUsername()),
-//                        teamNameEq(condition.getTeamName()),
-//                        ageGoe(condition.getAgeGoe()),
-//                        ageLoe(condition.getAgeLoe())
-//                ).fetchOne();
-
-        JPAQuery<Long> countQuery = jpaQueryFactory
-                .select(member.count())
-                .from(member)
-                .leftJoin(member.team, team)
-                .where(
-                        usernameEq(condition.getUsername()),
-                        teamNameEq(condition.getTeamName()),
-                        ageGoe(condition.getAgeGoe()),
-                        ageLoe(condition.getAgeLoe())
-                );
-
-//        return new PageImpl<MemberTeamDto>(contents, pageable, totalCount);
-        /**
-         * count 쿼리가 실행되지 않는 경우 : 마지막 페이지일 때
-         * 1. 시작 페이지면서 조회된 데이터의 갯수가 페이지 크기보다 작을 때
-         * 2. 맨 마지막 페이지이면서 조회된 갯수가 페이지 크기보다 작을 때
-         */
-        return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
+        if (rows.isEmpty()) {
+            Long totalCount = pageable.getOffset() == 0 ? Long.valueOf(0) : queryBuilder.count(condition).fetchOne();
+            return new PageImpl<>(List.of(), pageable, totalCount != null ? totalCount : 0);
+        }
+
+        List<MemberTeamDto> contents = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            contents.add(row.get(MemberSearchQueryBuilder.MEMBER_TEAM));
+        }
+        Long totalCount = rows.get(0).get(MemberSearchQueryBuilder.TOTAL_COUNT);
+        return new PageImpl<>(contents, pageable, totalCount != null ? totalCount : contents.size());
+    }
+
+    /**
+     * member / member_archive 에서 각각 같은 정렬의 앞쪽 offset + pageSize 건을 조회하여 병합
+     */
+    private Page<MemberTeamDto> searchPageIncludingArchive(MemberSearchCondition condition, Pageable pageable) {
+        long limit = pageable.getOffset() + pageable.getPageSize();
+        List<MemberTeamDto> merged = new ArrayList<>(queryBuilder.content(condition)
+                .orderBy(MemberSort.orderSpecifiers(pageable.getSort()))
+                .limit(limit)
+                .fetch());
+        merged.addAll(archivedQueryBuilder.content(condition)
+                .orderBy(MemberSort.orderSpecifiers(pageable.getSort(), ArchivedMemberSearchQueryBuilder.SORT_PATHS))
+                .limit(limit)
+                .fetch());
+        merged.sort(MemberSort.comparator(pageable.getSort()));
+
+        Long liveCount = queryBuilder.count(condition).fetchOne();
+        Long archivedCount = archivedQueryBuilder.count(condition).fetchOne();
+        long totalCount = (liveCount != null ? liveCount : 0) + (archivedCount != null ? archivedCount : 0);
+
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = (int) Math.min(limit, merged.size());
+        return new PageImpl<>(new ArrayList<>(merged.subList(from, to)), pageable, totalCount);
+    }
+
+    @Override
+    public List<List<MemberTeamDto>> searchBatch(List<MemberSearchCondition> conditions) {
+        return batchSearchQuery.fetch(conditions);
     }
 }
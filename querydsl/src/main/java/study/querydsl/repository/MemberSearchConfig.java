@@ -0,0 +1,35 @@
+package study.querydsl.repository;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import study.querydsl.readmodel.BitmapMemberSearchRepository;
+import study.querydsl.readmodel.ColumnarMemberSearchRepository;
+import study.querydsl.shard.ShardedMemberRepository;
+import study.querydsl.sql.SqlMemberSearchRepository;
+
+/**
+ * member.search.backend 설정에 따라 검색에 사용할 MemberRepositoryCustom 을 등록
+ * (MemberRepositoryCustom 타입으로 주입 받으면 선택된 구현이 주입됨)
+ */
+@Configuration
+public class MemberSearchConfig {
+
+    @Bean
+    @Primary
+    MemberRepositoryCustom memberSearchRepository(MemberSearchProperties memberSearchProperties,
+                                                  MemberRepository memberRepository,
+                                                  ObjectProvider<ShardedMemberRepository> shardedMemberRepository,
+                                                  ObjectProvider<ColumnarMemberSearchRepository> columnarMemberSearchRepository,
+                                                  ObjectProvider<BitmapMemberSearchRepository> bitmapMemberSearchRepository,
+                                                  ObjectProvider<SqlMemberSearchRepository> sqlMemberSearchRepository) {
+        return switch (memberSearchProperties.getBackend()) {
+            case JPA -> memberRepository;
+            case SHARDED -> shardedMemberRepository.getObject();
+            case COLUMNAR -> columnarMemberSearchRepository.getObject();
+            case BITMAP -> bitmapMemberSearchRepository.getObject();
+            case SQL -> sqlMemberSearchRepository.getObject();
+        };
+    }
+}
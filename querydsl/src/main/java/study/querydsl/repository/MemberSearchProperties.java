@@ -0,0 +1,59 @@
+package study.querydsl.repository;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 회원 검색 (MemberRepositoryCustom) 구현 선택
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "member.search")
+public class MemberSearchProperties {
+
+    public enum Backend {
+        /** 단일 DB, MemberRepositoryCustomImpl */
+        JPA,
+        /** team_id 해시로 분산된 N 개의 DB, ShardedMemberRepository */
+        SHARDED,
+        /** 메모리의 column store, ColumnarMemberSearchRepository (DB 는 변경 반영과 초기 적재에만 사용) */
+        COLUMNAR,
+        /** team / age bitmap 인덱스로 id 를 구한 뒤 해당 페이지만 DB 에서 조회, BitmapMemberSearchRepository */
+        BITMAP,
+        /** querydsl-sql 로 JDBC 에서 바로 DTO 조회 (JPQL / Hibernate 를 거치지 않음), SqlMemberSearchRepository */
+        SQL
+    }
+
+    /**
+     * searchPageSimple / searchPageComplex 의 전체 건수 조회 방식 (jpa backend)
+     */
+    public enum Paging {
+        /** content 쿼리 + count 쿼리 (searchPageComplex 는 마지막 페이지면 count 생략) */
+        COUNT_QUERY,
+        /**
+         * content 쿼리에 count(*) over() 를 붙여 한 번에 조회 (DB 왕복 한 번)
+         * 조건에 맞는 row 를 모두 읽어야 전체 건수가 나오므로 결과가 매우 큰 조건에서는 count 쿼리보다 느릴 수 있음
+         * offset 이 전체 건수를 넘어 빈 페이지가 조회되면 count 쿼리를 추가로 실행
+         */
+        WINDOW_COUNT,
+        /**
+         * 페이지의 member id 만 먼저 조회한 뒤 그 id 들만 team 과 join 하여 조회 (+ count 쿼리)
+         * 깊은 페이지에서 건너뛰는 row 를 index 에서만 읽으므로 offset 이 커도 join / row 생성 비용이 늘지 않음
+         */
+        DEFERRED_JOIN
+    }
+
+    private Backend backend = Backend.JPA;
+
+    private Paging paging = Paging.COUNT_QUERY;
+
+    // /v1/members/batch 한 번에 받을 수 있는 조건 수
+    private int maxBatchSize = 100;
+
+    /**
+     * 검색 응답에 ETag 사용 (If-None-Match 면 304)
+     * DataVersion 은 프로세스 안의 카운터라 이 인스턴스를 거친 변경만 반영하므로
+     * 인스턴스가 여러 개이거나 다른 프로세스 / SQL 로 데이터가 바뀌는 환경에서는 false
+     */
+    private boolean etag = true;
+}
@@ -0,0 +1,157 @@
+package study.querydsl.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.StringUtils;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.dto.QMemberTeamDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import static study.querydsl.entity.QMember.member;
+import static study.querydsl.entity.QTeam.team;
+
+/**
+ * MemberSearchCondition 에 필요한 join 만 붙여서 검색 / count 쿼리를 생성
+ * - content : teamName 을 조회하므로 team join 은 항상 필요
+ *             teamName 조건이 있으면 team 이 없는 member 는 어차피 걸러지므로 inner join, 없으면 left join
+ * - count   : teamName 조건이 있을 때만 inner join, 없으면 join 없이 member 만 (ManyToOne left join 은 건수에 영향 없음)
+ * team 컬럼은 alias(team) 로만 참조 (member.team.xxx 로 참조하면 별도의 암묵적 join 이 생길 수 있음)
+ */
+@RequiredArgsConstructor
+public class MemberSearchQueryBuilder {
+
+    public static final QMemberTeamDto MEMBER_TEAM = new QMemberTeamDto(
+            member.id,
+            member.username,
+            member.age,
+            team.id,
+            team.teamName
+    );
+
+    // 조건에 맞는 전체 건수 (offset / limit 적용 전에 계산됨, Hibernate 6.2+ HQL window function)
+    public static final NumberExpression<Long> TOTAL_COUNT = Expressions.numberTemplate(Long.class, "count(*) over()");
+
+    private final JPAQueryFactory queryFactory;
+
+    public JPAQuery<MemberTeamDto> content(MemberSearchCondition condition) {
+        return joinAndWhere(queryFactory.select(MEMBER_TEAM), condition);
+    }
+
+    /**
+     * content 의 각 row 에 TOTAL_COUNT 를 붙인 조회 (content + count 를 한 번에)
+     */
+    public JPAQuery<Tuple> contentWithTotalCount(MemberSearchCondition condition) {
+        return joinAndWhere(queryFactory.select(MEMBER_TEAM, TOTAL_COUNT), condition);
+    }
+
+    public JPAQuery<Long> count(MemberSearchCondition condition) {
+        JPAQuery<Long> query = queryFactory
+                .select(member.count())
+                .from(member);
+        if (filtersByTeam(condition)) {
+            query.join(member.team, team);
+        }
+        return query.where(where(condition));
+    }
+
+    /**
+     * count 와 같은 join 으로 member id 만 조회 (deferred join 의 첫 단계)
+     */
+    public JPAQuery<Long> ids(MemberSearchCondition condition) {
+        JPAQuery<Long> query = queryFactory
+                .select(member.id)
+                .from(member);
+        if (filtersByTeam(condition)) {
+            query.join(member.team, team);
+        }
+        return query.where(where(condition));
+    }
+
+    /**
+     * 조건으로 걸러진 id 들만 조회 (순서는 보장하지 않음)
+     */
+    public JPAQuery<MemberTeamDto> contentByIds(Collection<Long> ids) {
+        return queryFactory
+                .select(MEMBER_TEAM)
+                .from(member)
+                .leftJoin(member.team, team)
+                .where(member.id.in(ids));
+    }
+
+    public static boolean filtersByTeam(MemberSearchCondition condition) {
+        return StringUtils.hasText(condition.getTeamName());
+    }
+
+    private static <T> JPAQuery<T> joinAndWhere(JPAQuery<T> query, MemberSearchCondition condition) {
+        query.from(member);
+        if (filtersByTeam(condition)) {
+            query.join(member.team, team);
+        } else {
+            query.leftJoin(member.team, team);
+        }
+        return query.where(where(condition));
+    }
+
+    private static Predicate[] where(MemberSearchCondition condition) {
+        return where(condition, member.username, member.age);
+    }
+
+    /**
+     * 값이 있는 조건만 (없는 조건은 null 이므로 QueryDSL 이 생략)
+     */
+    static Predicate[] where(MemberSearchCondition condition, StringPath username, NumberPath<Integer> age) {
+        return filters(condition, username, age).stream()
+                .map(filter -> filter.present() ? filter.expression() : null)
+                .toArray(Predicate[]::new);
+    }
+
+    /**
+     * 조건 값의 유무와 관계없이 같은 모양의 predicate (MemberBatchSearchQuery 에서 조건마다 HQL 이 달라지지 않도록)
+     * 값이 없는 조건은 skip 파라미터로 무시하고, enabled 가 false 면 아무것도 만족하지 않음
+     * team 조건은 team alias 를 참조하므로 team 은 left join 으로 붙여야 함 (team 이 없으면 teamName 조건을 만족하지 않음)
+     */
+    public static BooleanExpression fixedShapeWhere(MemberSearchCondition condition, StringPath username,
+                                                    NumberPath<Integer> age, boolean enabled) {
+        BooleanExpression predicate = isTrue(enabled);
+        for (Filter filter : filters(condition, username, age)) {
+            predicate = predicate.and(isTrue(!filter.present()).or(filter.expression()));
+        }
+        return predicate;
+    }
+
+    /**
+     * @param present    조건 값이 있는지
+     * @param expression 조건 값 (없으면 자리만 채우는 값) 으로 만든 predicate
+     */
+    private record Filter(boolean present, BooleanExpression expression) {
+    }
+
+    private static List<Filter> filters(MemberSearchCondition condition, StringPath username, NumberPath<Integer> age) {
+        String usernameValue = condition.getUsername();
+        String teamNameValue = condition.getTeamName();
+        Integer ageGoe = condition.getAgeGoe();
+        Integer ageLoe = condition.getAgeLoe();
+        return List.of(
+                new Filter(StringUtils.hasText(usernameValue), username.eq(Objects.toString(usernameValue, ""))),
+                new Filter(StringUtils.hasText(teamNameValue), team.teamName.eq(Objects.toString(teamNameValue, ""))),
+                new Filter(ageGoe != null, age.goe(ageGoe != null ? ageGoe : 0)),
+                new Filter(ageLoe != null, age.loe(ageLoe != null ? ageLoe : 0))
+        );
+    }
+
+    private static BooleanExpression isTrue(boolean value) {
+        return Expressions.booleanTemplate("{0} = true", value);
+    }
+}
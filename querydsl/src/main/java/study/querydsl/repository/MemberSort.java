@@ -0,0 +1,101 @@
+package study.querydsl.repository;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import org.springframework.data.domain.Sort;
+import study.querydsl.dto.MemberTeamDto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static study.querydsl.entity.QMember.member;
+
+/**
+ * Pageable 의 Sort 를 회원 검색 정렬로 변환
+ * - 인덱스가 있는 컬럼만 허용하고 (memberId, username, age, teamId) 나머지는 UnsupportedSortException
+ * - 항상 member.id 를 마지막 기준으로 붙여 페이지 간 순서를 고정 ((컬럼, member_id) 인덱스 순서로 읽고 top-N 에서 멈출 수 있음)
+ * - 메모리에서 병합/정렬할 때 쓰는 Comparator 는 H2 기본값과 같이 null 을 가장 작은 값으로 취급
+ */
+public final class MemberSort {
+
+    static final Set<String> PROPERTIES = Set.of("memberId", "username", "age", "teamId");
+
+    /**
+     * 정렬 속성에 대응하는 경로 (member 와 같은 컬럼을 가진 ArchivedMember 도 같은 정렬을 사용)
+     */
+    public record SortPaths(NumberPath<Long> id, StringPath username, NumberPath<Integer> age, NumberPath<Long> teamId) {
+    }
+
+    public static final SortPaths MEMBER = new SortPaths(member.id, member.username, member.age, member.team.id);
+
+    private MemberSort() {
+    }
+
+    public static OrderSpecifier<?>[] orderSpecifiers(Sort sort) {
+        return orderSpecifiers(sort, MEMBER);
+    }
+
+    public static OrderSpecifier<?>[] orderSpecifiers(Sort sort, SortPaths paths) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            ComparableExpressionBase<?> path = path(order.getProperty(), paths);
+            orders.add(order.isAscending() ? path.asc() : path.desc());
+            if (path == paths.id()) {
+                // member id 는 unique 이므로 이후 기준은 의미 없음
+                return orders.toArray(new OrderSpecifier<?>[0]);
+            }
+        }
+        orders.add(paths.id().asc());
+        return orders.toArray(new OrderSpecifier<?>[0]);
+    }
+
+    public static Comparator<MemberTeamDto> comparator(Sort sort) {
+        Comparator<MemberTeamDto> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<MemberTeamDto> next = comparator(order.getProperty());
+            next = order.isAscending() ? next : next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+            if (order.getProperty().equals("memberId")) {
+                return comparator;
+            }
+        }
+        Comparator<MemberTeamDto> memberIdOrder = Comparator.comparing(MemberTeamDto::getMemberId);
+        return comparator == null ? memberIdOrder : comparator.thenComparing(memberIdOrder);
+    }
+
+    /**
+     * member id 오름차순과 같은 정렬인지 (정렬 없음 포함)
+     */
+    public static boolean isMemberIdOrder(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        Sort.Order first = sort.iterator().next();
+        path(first.getProperty(), MEMBER);
+        return first.getProperty().equals("memberId") && first.isAscending();
+    }
+
+    private static ComparableExpressionBase<?> path(String property, SortPaths paths) {
+        return switch (property) {
+            case "memberId" -> paths.id();
+            case "username" -> paths.username();
+            case "age" -> paths.age();
+            case "teamId" -> paths.teamId();
+            default -> throw new UnsupportedSortException(property);
+        };
+    }
+
+    private static Comparator<MemberTeamDto> comparator(String property) {
+        return switch (property) {
+            case "memberId" -> Comparator.comparing(MemberTeamDto::getMemberId);
+            case "username" -> Comparator.comparing(MemberTeamDto::getUsername, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case "age" -> Comparator.comparingInt(MemberTeamDto::getAge);
+            case "teamId" -> Comparator.comparing(MemberTeamDto::getTeamId, Comparator.nullsFirst(Comparator.naturalOrder()));
+            default -> throw new UnsupportedSortException(property);
+        };
+    }
+}
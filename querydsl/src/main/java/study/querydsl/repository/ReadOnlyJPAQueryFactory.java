@@ -0,0 +1,36 @@
+package study.querydsl.repository;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 조회 전용 QueryFactory
+ * - 쓰기가 없는 상황(트랜잭션 없음 / readOnly 트랜잭션)에서만 조회한 엔티티를 read-only 로 로딩하여
+ *   dirty checking 용 스냅샷을 만들지 않고, 쿼리 전 auto flush 도 생략
+ * - 쓰기 트랜잭션 안에서는 일반 JPAQueryFactory 와 같음 (조회한 엔티티의 변경이 update 되고, flush 되지 않은 변경도 조회)
+ */
+public class ReadOnlyJPAQueryFactory extends JPAQueryFactory {
+
+    public ReadOnlyJPAQueryFactory(EntityManager em) {
+        super(em);
+    }
+
+    @Override
+    public JPAQuery<?> query() {
+        JPAQuery<?> query = super.query();
+        if (isReadOnlyContext()) {
+            query.setHint(HibernateHints.HINT_READ_ONLY, true);
+            query.setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+        }
+        return query;
+    }
+
+    private boolean isReadOnlyContext() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,12 @@
+package study.querydsl.repository;
+
+/**
+ * 정렬할 수 없는 (인덱스가 없는) 속성으로 정렬을 요청한 경우
+ * IllegalArgumentException 은 @Repository 예외 변환에서 InvalidDataAccessApiUsageException 으로 바뀌므로 RuntimeException 을 상속
+ */
+public class UnsupportedSortException extends RuntimeException {
+
+    public UnsupportedSortException(String property) {
+        super("Unsupported sort property: " + property + " (allowed: " + MemberSort.PROPERTIES + ")");
+    }
+}
@@ -0,0 +1,110 @@
+package study.querydsl.shard;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import lombok.Getter;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * shard 하나 (DataSource + EntityManagerFactory)
+ * member id 는 shard 마다 겹치지 않는 범위 [index * ID_RANGE, (index + 1) * ID_RANGE) 에서 발급되므로
+ * id 만으로 소유 shard 를 알 수 있음
+ */
+public class Shard implements AutoCloseable {
+
+    public static final long ID_RANGE = 1L << 40;
+
+    // @GeneratedValue 기본 allocationSize
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    @Getter
+    private final int index;
+    @Getter
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private Shard(int index, DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.index = index;
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public static Shard create(int index, ShardingProperties properties) {
+        DataSource dataSource = DataSourceBuilder.create()
+                .url(properties.url(index))
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+
+        Map<String, Object> jpaProperties = new HashMap<>();
+        jpaProperties.put("hibernate.hbm2ddl.auto", properties.getDdlAuto());
+        // 기본 DataSource 와 같은 테이블 / 컬럼 이름을 사용하도록 Spring Boot 의 naming strategy 적용
+        jpaProperties.put("hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName());
+        jpaProperties.put("hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName());
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setPersistenceUnitName("shard" + index);
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("study.querydsl.entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(jpaProperties);
+        factory.afterPropertiesSet();
+
+        Shard shard = new Shard(index, dataSource, factory.getObject());
+        shard.restartMemberSequence();
+        return shard;
+    }
+
+    private void restartMemberSequence() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(member_id), 0) from member", Long.class);
+        long start = Math.max(index * ID_RANGE, maxId) + SEQUENCE_ALLOCATION_SIZE + 1;
+        jdbcTemplate.execute("alter sequence member_seq restart with " + start);
+    }
+
+    public static int indexOfMemberId(long memberId) {
+        return (int) (memberId / ID_RANGE);
+    }
+
+    public <T> T inTransaction(Function<EntityManager, T> work) {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        EntityTransaction tx = em.getTransaction();
+        try {
+            tx.begin();
+            T result = work.apply(em);
+            tx.commit();
+            return result;
+        } catch (RuntimeException e) {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            throw e;
+        } finally {
+            em.close();
+        }
+    }
+
+    public <T> T query(Function<JPAQueryFactory, T> query) {
+        return inTransaction(em -> query.apply(new JPAQueryFactory(em)));
+    }
+
+    @Override
+    public void close() throws Exception {
+        entityManagerFactory.close();
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package study.querydsl.shard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import study.querydsl.controller.SeedCompletedEvent;
+import study.querydsl.controller.SeedHealthIndicator;
+
+/**
+ * 기본 DataSource 의 team / member 를 shard 로 복사 (member.search.backend=sharded)
+ * 데이터는 기본 DataSource 에 적재되므로 (InitMember, MemberDatasetGenerator) 복사하지 않으면 shard 검색 결과가 비어 있음
+ * - 초기 데이터를 적재 중이면 적재가 끝난 뒤 (SeedCompletedEvent, warm-up 보다 먼저) 복사
+ * - 아니면 기동 시 (ApplicationRunner, readiness 이전) 바로 복사
+ * 복사 후 shard 의 member 수가 기본 DataSource 와 다르면 실패 (기동 실패 / 적재 중이었으면 readiness DOWN)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "member.search", name = "backend", havingValue = "sharded")
+public class ShardSeeder implements ApplicationRunner {
+
+    private final ShardedMemberRepository shardedMemberRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SeedHealthIndicator seedHealthIndicator;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (seedHealthIndicator.isSeeding()) {
+            log.info("shard copy : deferred until member seeding completes");
+            return;
+        }
+        copy();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(SeedCompletedEvent.class)
+    public void afterSeeding() {
+        copy();
+    }
+
+    void copy() {
+        long start = System.currentTimeMillis();
+        Long expected = jdbcTemplate.queryForObject("select count(*) from member", Long.class);
+        long existing = shardedMemberRepository.memberCount();
+        if (existing > 0) {
+            // ddl-auto none 등으로 이미 채워진 shard 는 그대로 사용
+            log.info("shard copy : skipped, shards already have {} members", existing);
+            return;
+        }
+
+        shardedMemberRepository.copyFrom(jdbcTemplate);
+
+        long copied = shardedMemberRepository.memberCount();
+        if (expected == null || copied != expected) {
+            throw new IllegalStateException("shards have " + copied + " members but the primary database has " + expected);
+        }
+        log.info("shard copy : {} members into {} shards, {} ms",
+                copied, shardedMemberRepository.shardCount(), System.currentTimeMillis() - start);
+    }
+}
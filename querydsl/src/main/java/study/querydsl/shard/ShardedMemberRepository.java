@@ -0,0 +1,267 @@
+package study.querydsl.shard;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+import study.querydsl.readmodel.DataVersion;
+import study.querydsl.repository.MemberBatchSearchQuery;
+import study.querydsl.repository.MemberRepositoryCustom;
+import study.querydsl.repository.MemberSearchQueryBuilder;
+import study.querydsl.repository.MemberSort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import static study.querydsl.entity.QMember.member;
+import static study.querydsl.entity.QTeam.team;
+
+/**
+ * team_id 해시로 Member 를 N 개의 shard 에 분산 저장
+ * - Team 은 모든 shard 에 같은 id 로 복제 (검색 시 join 을 shard 안에서 처리)
+ * - save : team_id 해시로 shard 선택 (team 이 없으면 username 해시)
+ * - findById : member id 범위로 소유 shard 선택
+ * - search / searchPage : 모든 shard 에 병렬로 조회 후 member id 순 (searchPage 는 요청한 정렬 순) 으로 병합
+ * - copyFrom : 기본 DataSource 에 적재된 team / member 를 shard 로 복사 (ShardSeeder 가 기동 / 초기 적재 후 호출)
+ * archive 는 기본 DataSource 에만 있으므로 includeArchived 는 무시 (live member 만 검색)
+ * shard 의 EntityManagerFactory 는 MemberChangeListener 가 동작하지 않으므로 save 후 DataVersion 을 직접 증가
+ */
+public class ShardedMemberRepository implements MemberRepositoryCustom, AutoCloseable {
+
+    private static final Comparator<MemberTeamDto> MEMBER_ID_ORDER = Comparator.comparing(MemberTeamDto::getMemberId);
+    private static final int COPY_CHUNK_SIZE = 10_000;
+
+    private final List<Shard> shards;
+    private final ExecutorService executor;
+    private final DataVersion dataVersion;
+
+    public ShardedMemberRepository(List<Shard> shards) {
+        this(shards, new DataVersion());
+    }
+
+    public ShardedMemberRepository(List<Shard> shards, DataVersion dataVersion) {
+        this.shards = List.copyOf(shards);
+        this.executor = Executors.newFixedThreadPool(shards.size());
+        this.dataVersion = dataVersion;
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public Team saveTeam(Team newTeam) {
+        saveTeamWithoutVersion(newTeam);
+        dataVersion.changed();
+        return newTeam;
+    }
+
+    private Team saveTeamWithoutVersion(Team newTeam) {
+        shards.get(0).inTransaction(em -> {
+            em.persist(newTeam);
+            return newTeam;
+        });
+        for (Shard shard : shards.subList(1, shards.size())) {
+            new JdbcTemplate(shard.getDataSource()).update(
+                    "insert into team (team_id, team_name) values (?, ?)", newTeam.getId(), newTeam.getTeamName());
+        }
+        return newTeam;
+    }
+
+    public Member save(Member newMember) {
+        Member saved = shardOf(newMember).inTransaction(em -> {
+            em.persist(newMember);
+            return newMember;
+        });
+        dataVersion.changed();
+        return saved;
+    }
+
+    /**
+     * source 의 team / member 를 shard 로 복사 (member_id 순으로 COPY_CHUNK_SIZE 개씩)
+     * team 은 saveTeam 과 같이 모든 shard 에 복제하고, member 는 save 와 같은 shard 로 보내며 id 는 shard 에서 새로 발급
+     *
+     * @return 복사한 member 수
+     */
+    public long copyFrom(JdbcTemplate source) {
+        Map<Long, Long> teamIds = new HashMap<>();
+        source.query("select team_id, team_name from team order by team_id", rs -> {
+            teamIds.put(rs.getLong(1), saveTeamWithoutVersion(new Team(rs.getString(2))).getId());
+        });
+
+        long copied = 0;
+        long lastMemberId = Long.MIN_VALUE;
+        while (true) {
+            List<MemberRow> rows = source.query(
+                    "select member_id, username, age, team_id from member where member_id > ? order by member_id limit ?",
+                    (rs, rowNum) -> {
+                        long teamId = rs.getLong(4);
+                        return new MemberRow(rs.getLong(1), rs.getString(2), rs.getInt(3), rs.wasNull() ? null : teamIds.get(teamId));
+                    },
+                    lastMemberId, COPY_CHUNK_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<List<MemberRow>> rowsByShard = new ArrayList<>();
+            shards.forEach(shard -> rowsByShard.add(new ArrayList<>()));
+            rows.forEach(row -> rowsByShard.get(shardIndex(row.shardTeamId(), row.username())).add(row));
+
+            scatterShards(shard -> shard.inTransaction(em -> {
+                for (MemberRow row : rowsByShard.get(shards.indexOf(shard))) {
+                    Team rowTeam = row.shardTeamId() != null ? em.getReference(Team.class, row.shardTeamId()) : null;
+                    em.persist(new Member(row.username(), row.age(), rowTeam));
+                }
+                return null;
+            }));
+            copied += rows.size();
+            lastMemberId = rows.get(rows.size() - 1).memberId();
+        }
+        dataVersion.changed();
+        return copied;
+    }
+
+    private record MemberRow(long memberId, String username, int age, Long shardTeamId) {
+    }
+
+    public long memberCount() {
+        long count = 0;
+        for (Long shardCount : scatterShards(shard -> new JdbcTemplate(shard.getDataSource())
+                .queryForObject("select count(*) from member", Long.class))) {
+            count += shardCount;
+        }
+        return count;
+    }
+
+    public Optional<Member> findById(Long id) {
+        int index = Shard.indexOfMemberId(id);
+        if (index >= shards.size()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(shards.get(index).query(queryFactory -> queryFactory
+                .selectFrom(member)
+                .leftJoin(member.team, team).fetchJoin()
+                .where(member.id.eq(id))
+                .fetchOne()));
+    }
+
+    Shard shardOf(Member target) {
+        if (target.getTeam() != null && target.getTeam().getId() == null) {
+            throw new IllegalArgumentException("Team must be saved with saveTeam() before its members");
+        }
+        return shards.get(shardIndex(target.getTeam() != null ? target.getTeam().getId() : null, target.getUsername()));
+    }
+
+    private int shardIndex(Long teamId, String username) {
+        long key = teamId != null
+                ? teamId
+                : username != null ? username.hashCode() : 0;
+        return Math.floorMod(Long.hashCode(mix(key)), shards.size());
+    }
+
+    @Override
+    public List<MemberTeamDto> search(MemberSearchCondition condition) {
+        List<MemberTeamDto> contents = new ArrayList<>();
+        scatter(queryFactory -> contentQuery(queryFactory, condition).fetch()).forEach(contents::addAll);
+        contents.sort(MEMBER_ID_ORDER);
+        return contents;
+    }
+
+    @Override
+    public Page<MemberTeamDto> searchPageSimple(MemberSearchCondition condition, Pageable pageable) {
+        return searchPageComplex(condition, pageable);
+    }
+
+    @Override
+    public Page<MemberTeamDto> searchPageComplex(MemberSearchCondition condition, Pageable pageable) {
+        // 전체 순서에서 offset + pageSize 안에 들어갈 수 있는 row 는 각 shard 의 같은 정렬 기준 앞쪽 offset + pageSize 개 안에 있음
+        long limit = pageable.getOffset() + pageable.getPageSize();
+        List<ShardPage> shardPages = scatter(queryFactory -> new ShardPage(
+                contentQuery(queryFactory, condition)
+                        .orderBy(MemberSort.orderSpecifiers(pageable.getSort()))
+                        .limit(limit)
+                        .fetch(),
+                countQuery(queryFactory, condition)));
+
+        List<MemberTeamDto> merged = new ArrayList<>();
+        long total = 0;
+        for (ShardPage shardPage : shardPages) {
+            merged.addAll(shardPage.contents());
+            total += shardPage.total();
+        }
+        merged.sort(MemberSort.comparator(pageable.getSort()));
+
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = (int) Math.min(limit, merged.size());
+        return new PageImpl<>(new ArrayList<>(merged.subList(from, to)), pageable, total);
+    }
+
+    @Override
+    public List<List<MemberTeamDto>> searchBatch(List<MemberSearchCondition> conditions) {
+        // shard 마다 UNION ALL 한 번, 조건별로 병합
+        List<List<List<MemberTeamDto>>> shardResults = scatterShards(shard -> shard.inTransaction(
+                em -> new MemberBatchSearchQuery(em).fetch(conditions)));
+
+        List<List<MemberTeamDto>> merged = new ArrayList<>(conditions.size());
+        for (int i = 0; i < conditions.size(); i++) {
+            List<MemberTeamDto> contents = new ArrayList<>();
+            for (List<List<MemberTeamDto>> shardResult : shardResults) {
+                contents.addAll(shardResult.get(i));
+            }
+            contents.sort(MEMBER_ID_ORDER);
+            merged.add(contents);
+        }
+        return merged;
+    }
+
+    private record ShardPage(List<MemberTeamDto> contents, long total) {
+    }
+
+    private <T> List<T> scatter(Function<JPAQueryFactory, T> query) {
+        return scatterShards(shard -> shard.query(query));
+    }
+
+    private <T> List<T> scatterShards(Function<Shard, T> work) {
+        List<CompletableFuture<T>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> work.apply(shard), executor))
+                .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private JPAQuery<MemberTeamDto> contentQuery(JPAQueryFactory queryFactory, MemberSearchCondition condition) {
+        return new MemberSearchQueryBuilder(queryFactory).content(condition);
+    }
+
+    private long countQuery(JPAQueryFactory queryFactory, MemberSearchCondition condition) {
+        Long count = new MemberSearchQueryBuilder(queryFactory).count(condition).fetchOne();
+        return count != null ? count : 0;
+    }
+
+    // SplitMix64 finalizer : 연속된 team_id 가 고르게 분산되도록
+    private static long mix(long key) {
+        long z = key * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public void close() throws Exception {
+        executor.shutdownNow();
+        for (Shard shard : shards) {
+            shard.close();
+        }
+    }
+}
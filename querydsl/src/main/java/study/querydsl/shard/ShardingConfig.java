@@ -0,0 +1,23 @@
+package study.querydsl.shard;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import study.querydsl.readmodel.DataVersion;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(prefix = "member.search", name = "backend", havingValue = "sharded")
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    ShardedMemberRepository shardedMemberRepository(ShardingProperties shardingProperties, DataVersion dataVersion) {
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < shardingProperties.getShards(); i++) {
+            shards.add(Shard.create(i, shardingProperties));
+        }
+        return new ShardedMemberRepository(shards, dataVersion);
+    }
+}
@@ -0,0 +1,28 @@
+package study.querydsl.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * member.search.backend=sharded 일 때 사용할 shard DB 설정
+ * url 의 {index} 는 0 부터 시작하는 shard 번호로 치환
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "sharding")
+public class ShardingProperties {
+
+    private int shards = 4;
+
+    private String url = "jdbc:h2:mem:shard{index};DB_CLOSE_DELAY=-1";
+
+    private String username = "sa";
+
+    private String password = "";
+
+    private String ddlAuto = "create";
+
+    public String url(int index) {
+        return url.replace("{index}", String.valueOf(index));
+    }
+}
@@ -0,0 +1,173 @@
+package study.querydsl.sql;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.SubQueryExpression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.sql.SQLExpressions;
+import com.querydsl.sql.SQLQuery;
+import com.querydsl.sql.SQLQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.dto.QMemberTeamDto;
+import study.querydsl.repository.MemberRepositoryCustom;
+import study.querydsl.repository.MemberSearchQueryBuilder;
+import study.querydsl.repository.MemberSort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * querydsl-sql 로 JPQL 해석 / Hibernate SQL 생성 / 결과 변환 없이 JDBC 에서 바로 MemberTeamDto 로 검색
+ * - join 규칙은 MemberSearchQueryBuilder 와 같음 (teamName 조건이 있으면 inner join, count 는 그때만 join)
+ * - Spring 트랜잭션의 커넥션을 사용하지만 영속성 컨텍스트를 flush 하지 않으므로 같은 트랜잭션의 변경은 flush 후에 보임
+ * includeArchived 조건은 JPA 구현으로 위임
+ */
+@RequiredArgsConstructor
+public class SqlMemberSearchRepository implements MemberRepositoryCustom {
+
+    private static final SMember member = new SMember("m");
+    private static final STeam team = new STeam("t");
+
+    static final MemberSort.SortPaths SORT_PATHS =
+            new MemberSort.SortPaths(member.memberId, member.username, member.age, member.teamId);
+
+    private final SQLQueryFactory queryFactory;
+    private final MemberRepositoryCustom fallback;
+
+    @Override
+    public List<MemberTeamDto> search(MemberSearchCondition condition) {
+        if (condition.isIncludeArchived()) {
+            return fallback.search(condition);
+        }
+        return content(condition).fetch();
+    }
+
+    @Override
+    public Page<MemberTeamDto> searchPageSimple(MemberSearchCondition condition, Pageable pageable) {
+        if (condition.isIncludeArchived()) {
+            return fallback.searchPageSimple(condition, pageable);
+        }
+        List<MemberTeamDto> contents = page(condition, pageable);
+        Long totalCount = count(condition).fetchOne();
+        return new PageImpl<>(contents, pageable, totalCount != null ? totalCount : 0);
+    }
+
+    @Override
+    public Page<MemberTeamDto> searchPageComplex(MemberSearchCondition condition, Pageable pageable) {
+        if (condition.isIncludeArchived()) {
+            return fallback.searchPageComplex(condition, pageable);
+        }
+        List<MemberTeamDto> contents = page(condition, pageable);
+        SQLQuery<Long> countQuery = count(condition);
+        return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 조건 index 를 첫 컬럼으로 붙인 UNION ALL 한 번으로 조회
+     */
+    @Override
+    public List<List<MemberTeamDto>> searchBatch(List<MemberSearchCondition> conditions) {
+        if (conditions.stream().anyMatch(MemberSearchCondition::isIncludeArchived)) {
+            return fallback.searchBatch(conditions);
+        }
+        List<List<MemberTeamDto>> results = new ArrayList<>(conditions.size());
+        for (int i = 0; i < conditions.size(); i++) {
+            results.add(new ArrayList<>());
+        }
+        if (conditions.isEmpty()) {
+            return results;
+        }
+
+        List<SubQueryExpression<Tuple>> selects = new ArrayList<>(conditions.size());
+        for (int i = 0; i < conditions.size(); i++) {
+            // 바인드 파라미터가 아닌 리터럴로 넣어야 UNION 의 컬럼 타입이 정해짐
+            Expression<Integer> index = Expressions.numberTemplate(Integer.class, String.valueOf(i));
+            SQLQuery<Tuple> select = SQLExpressions.select(index, member.memberId, member.username, member.age,
+                    team.teamId, team.teamName);
+            selects.add(joinTeam(select, conditions.get(i)).where(where(conditions.get(i))));
+        }
+
+        for (Tuple row : queryFactory.query().unionAll(selects).fetch()) {
+            Integer age = row.get(3, Integer.class);
+            results.get(row.get(0, Integer.class)).add(new MemberTeamDto(
+                    row.get(1, Long.class),
+                    row.get(2, String.class),
+                    age != null ? age : 0,
+                    row.get(4, Long.class),
+                    row.get(5, String.class)));
+        }
+        return results;
+    }
+
+    private List<MemberTeamDto> page(MemberSearchCondition condition, Pageable pageable) {
+        return content(condition)
+                .orderBy(MemberSort.orderSpecifiers(pageable.getSort(), SORT_PATHS))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    private SQLQuery<MemberTeamDto> content(MemberSearchCondition condition) {
+        SQLQuery<MemberTeamDto> query = queryFactory
+                .select(new QMemberTeamDto(
+                        member.memberId,
+                        member.username,
+                        member.age,
+                        team.teamId,
+                        team.teamName
+                ));
+        return joinTeam(query, condition).where(where(condition));
+    }
+
+    private SQLQuery<Long> count(MemberSearchCondition condition) {
+        SQLQuery<Long> query = queryFactory
+                .select(member.memberId.count())
+                .from(member);
+        if (MemberSearchQueryBuilder.filtersByTeam(condition)) {
+            query.join(team).on(member.teamId.eq(team.teamId));
+        }
+        return query.where(where(condition));
+    }
+
+    private static <T> SQLQuery<T> joinTeam(SQLQuery<T> query, MemberSearchCondition condition) {
+        query.from(member);
+        if (MemberSearchQueryBuilder.filtersByTeam(condition)) {
+            return query.join(team).on(member.teamId.eq(team.teamId));
+        }
+        return query.leftJoin(team).on(member.teamId.eq(team.teamId));
+    }
+
+    private static Predicate[] where(MemberSearchCondition condition) {
+        return new Predicate[]{
+                usernameEq(condition.getUsername()),
+                teamNameEq(condition.getTeamName()),
+                ageGoe(condition.getAgeGoe()),
+                ageLoe(condition.getAgeLoe())
+        };
+    }
+
+    private static BooleanExpression usernameEq(String username) {
+        return StringUtils.hasText(username) ? member.username.eq(username) : null;
+    }
+
+    private static BooleanExpression teamNameEq(String teamName) {
+        return StringUtils.hasText(teamName) ? team.teamName.eq(teamName) : null;
+    }
+
+    private static BooleanExpression ageGoe(Integer ageGoe) {
+        return ageGoe != null ? member.age.goe(ageGoe) : null;
+    }
+
+    private static BooleanExpression ageLoe(Integer ageLoe) {
+        return ageLoe != null ? member.age.loe(ageLoe) : null;
+    }
+}
@@ -0,0 +1,31 @@
+package study.querydsl.sql;
+
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.H2Templates;
+import com.querydsl.sql.SQLQueryFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import study.querydsl.repository.MemberRepository;
+
+import javax.sql.DataSource;
+
+@org.springframework.context.annotation.Configuration
+@ConditionalOnProperty(prefix = "member.search", name = "backend", havingValue = "sql")
+public class SqlSearchConfig {
+
+    /**
+     * 트랜잭션 안이면 JpaTransactionManager 가 바인딩한 커넥션을 사용하고, 밖이면 쿼리마다 커넥션을 얻고 반납
+     */
+    @Bean
+    SQLQueryFactory sqlQueryFactory(DataSource dataSource) {
+        return new SQLQueryFactory(new Configuration(H2Templates.builder().build()),
+                new TransactionAwareDataSourceProxy(dataSource));
+    }
+
+    @Bean
+    SqlMemberSearchRepository sqlMemberSearchRepository(SQLQueryFactory sqlQueryFactory,
+                                                        MemberRepository memberRepository) {
+        return new SqlMemberSearchRepository(sqlQueryFactory, memberRepository);
+    }
+}
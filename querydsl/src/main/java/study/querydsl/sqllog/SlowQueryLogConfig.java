@@ -0,0 +1,31 @@
+package study.querydsl.sqllog;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * slow-query-log.enabled=true 일 때만 DataSource 를 SlowQueryLogDataSource 로 감쌈
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "slow-query-log", name = "enabled", havingValue = "true")
+public class SlowQueryLogConfig {
+
+    @Bean
+    static BeanPostProcessor slowQueryLogDataSourcePostProcessor(ObjectProvider<SlowQueryLogProperties> properties,
+                                                                 ObjectProvider<SqlStatementListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SlowQueryLogDataSource)) {
+                    return new SlowQueryLogDataSource(dataSource, new SlowQueryLogger(properties.getObject(), listeners));
+                }
+                return bean;
+            }
+        };
+    }
+}
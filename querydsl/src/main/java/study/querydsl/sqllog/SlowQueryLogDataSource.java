@@ -0,0 +1,245 @@
+package study.querydsl.sqllog;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Connection / Statement / ResultSet 을 프록시로 감싸 실행 시간, 바인드 파라미터, row 수를 측정
+ * 기록 여부는 SlowQueryLogger 가 판단
+ * 컨테이너 종료 시 close 는 감싼 DataSource (커넥션 풀) 로 전달
+ */
+public class SlowQueryLogDataSource extends DelegatingDataSource implements Closeable {
+
+    private final SlowQueryLogger logger;
+
+    public SlowQueryLogDataSource(DataSource targetDataSource, SlowQueryLogger logger) {
+        super(targetDataSource);
+        this.logger = logger;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (getTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SlowQueryLogDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object proxy, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SlowQueryLogDataSource.invoke(target, method, proxy, args);
+            switch (method.getName()) {
+                case "prepareCall":
+                    return proxy(CallableStatement.class, new StatementHandler((Statement) result, target, (String) args[0]));
+                case "prepareStatement":
+                    return proxy(PreparedStatement.class, new StatementHandler((Statement) result, target, (String) args[0]));
+                case "createStatement":
+                    return proxy(Statement.class, new StatementHandler((Statement) result, target, null));
+                default:
+                    return result;
+            }
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Connection connection;
+        private final String sql;
+        private final List<Object> parameters = new ArrayList<>();
+        private int batchSize;
+
+        // execute() 후 getResultSet() 으로 결과를 읽는 경우
+        private String pendingSql;
+        private long pendingStart;
+        private boolean pendingSampled;
+
+        StatementHandler(Statement target, Connection connection, String sql) {
+            this.target = target;
+            this.connection = connection;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (args != null && args.length >= 2 && args[0] instanceof Integer index && name.startsWith("set")) {
+                setParameter(index, name.equals("setNull") ? null : args[1]);
+                return SlowQueryLogDataSource.invoke(target, method, proxy, args);
+            }
+
+            switch (name) {
+                case "clearParameters":
+                    parameters.clear();
+                    break;
+                case "addBatch":
+                    batchSize++;
+                    break;
+                case "clearBatch":
+                    batchSize = 0;
+                    break;
+                case "executeQuery":
+                case "execute":
+                case "executeUpdate":
+                case "executeLargeUpdate":
+                case "executeBatch":
+                case "executeLargeBatch":
+                    return execute(proxy, method, args);
+                case "getResultSet":
+                    Object resultSet = SlowQueryLogDataSource.invoke(target, method, proxy, args);
+                    if (resultSet instanceof ResultSet rs && pendingSql != null) {
+                        String statementSql = pendingSql;
+                        pendingSql = null;
+                        return proxy(ResultSet.class, new ResultSetHandler(rs, this, statementSql, pendingStart, pendingSampled));
+                    }
+                    return resultSet;
+                default:
+                    break;
+            }
+            return SlowQueryLogDataSource.invoke(target, method, proxy, args);
+        }
+
+        private void setParameter(int index, Object value) {
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, value);
+        }
+
+        private Object execute(Object proxy, Method method, Object[] args) throws Throwable {
+            String statementSql = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+            boolean sampled = logger.sample();
+
+            long start = System.nanoTime();
+            Object result = SlowQueryLogDataSource.invoke(target, method, proxy, args);
+            long elapsed = System.nanoTime() - start;
+
+            int batch = 0;
+            if (method.getName().endsWith("Batch")) {
+                batch = batchSize;
+                batchSize = 0;
+            }
+
+            if (result instanceof ResultSet rs) {
+                // 조회는 ResultSet 을 모두 읽고 닫을 때 row 수와 함께 기록
+                return proxy(ResultSet.class, new ResultSetHandler(rs, this, statementSql, start, sampled));
+            }
+            if (Boolean.TRUE.equals(result)) {
+                pendingSql = statementSql;
+                pendingStart = start;
+                pendingSampled = sampled;
+                return result;
+            }
+            if (logger.shouldLog(elapsed, sampled)) {
+                logger.log(connection, statementSql, parameters, elapsed, rowCount(result), batch);
+            }
+            return result;
+        }
+
+        private long rowCount(Object result) {
+            if (result instanceof Number number) {
+                return number.longValue();
+            }
+            long sum = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    sum += Math.max(count, 0);
+                }
+                return sum;
+            }
+            if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    sum += Math.max(count, 0);
+                }
+                return sum;
+            }
+            return -1;
+        }
+    }
+
+    private class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final StatementHandler statement;
+        private final String sql;
+        private final long start;
+        private final boolean sampled;
+        private long rows;
+        private boolean closed;
+
+        ResultSetHandler(ResultSet target, StatementHandler statement, String sql, long start, boolean sampled) {
+            this.target = target;
+            this.statement = statement;
+            this.sql = sql;
+            this.start = start;
+            this.sampled = sampled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SlowQueryLogDataSource.invoke(target, method, proxy, args);
+            String name = method.getName();
+            if (name.equals("next") && Boolean.TRUE.equals(result)) {
+                rows++;
+            } else if (name.equals("close") && !closed) {
+                closed = true;
+                long elapsed = System.nanoTime() - start;
+                if (logger.shouldLog(elapsed, sampled)) {
+                    logger.log(statement.connection, sql, statement.parameters, elapsed, rows, 0);
+                }
+            }
+            return result;
+        }
+    }
+}
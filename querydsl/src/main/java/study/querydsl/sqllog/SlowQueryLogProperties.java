@@ -0,0 +1,33 @@
+package study.querydsl.sqllog;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 느린 쿼리 / 샘플링 SQL 로그 설정
+ * enabled=false(기본) 이면 DataSource 를 감싸지 않으므로 오버헤드 없음
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "slow-query-log")
+public class SlowQueryLogProperties {
+
+    private boolean enabled = false;
+
+    /** 이 시간 이상 걸린 statement 를 기록 (실행 + ResultSet 읽기 시간) */
+    private Duration threshold = Duration.ofMillis(200);
+
+    /** threshold 와 무관하게 기록할 statement 비율 (0.0 ~ 1.0) */
+    private double sampleRate = 0.0;
+
+    /** 기록 시 같은 SQL / 파라미터로 H2 EXPLAIN 실행 */
+    private boolean explain = false;
+
+    /** 호출 위치로 표시할 스택 프레임의 패키지 */
+    private String originPackage = "study.querydsl.repository";
+
+    /** 긴 문자열 파라미터는 잘라서 기록 */
+    private int maxParameterLength = 100;
+}
@@ -0,0 +1,125 @@
+package study.querydsl.sqllog;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * statement 실행 결과를 보고 기록 여부를 판단
+ * 기록하지 않는 경우에는 비교 연산만 하고, 스택 추적 / EXPLAIN / 문자열 생성은 기록할 때만 수행
+ */
+@Log4j2
+public class SlowQueryLogger {
+
+    private final SlowQueryLogProperties properties;
+    private final ObjectProvider<SqlStatementListener> listeners;
+    private final long thresholdNanos;
+
+    public SlowQueryLogger(SlowQueryLogProperties properties, ObjectProvider<SqlStatementListener> listeners) {
+        this.properties = properties;
+        this.listeners = listeners;
+        this.thresholdNanos = properties.getThreshold().toNanos();
+    }
+
+    /** 실행 전에 샘플링 여부 결정 */
+    boolean sample() {
+        double sampleRate = properties.getSampleRate();
+        return sampleRate > 0 && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    boolean shouldLog(long elapsedNanos, boolean sampled) {
+        return sampled || elapsedNanos >= thresholdNanos;
+    }
+
+    void log(Connection connection, String sql, List<Object> parameters, long elapsedNanos,
+             long rowCount, int batchSize) {
+        boolean slow = elapsedNanos >= thresholdNanos;
+        String plan = properties.isExplain() ? explain(connection, sql, parameters) : null;
+        SqlStatementLog statementLog = new SqlStatementLog(sql, List.copyOf(parameters), elapsedNanos,
+                rowCount, batchSize, slow, origin(), plan);
+
+        if (slow) {
+            log.warn("slow query : {}", format(statementLog));
+        } else {
+            log.info("sampled query : {}", format(statementLog));
+        }
+        listeners.orderedStream().forEach(listener -> listener.onStatement(statementLog));
+    }
+
+    private String origin() {
+        String originPackage = properties.getOriginPackage();
+        Optional<StackWalker.StackFrame> frame = StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(originPackage))
+                .findFirst());
+        return frame.map(f -> simpleName(f.getClassName()) + "." + f.getMethodName()).orElse("unknown");
+    }
+
+    private String explain(Connection connection, String sql, List<Object> parameters) {
+        if (!sql.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+            return null;
+        }
+        try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                ps.setObject(i + 1, parameters.get(i));
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1));
+                }
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            return "explain failed : " + e.getMessage();
+        }
+    }
+
+    private String format(SqlStatementLog statementLog) {
+        StringBuilder message = new StringBuilder()
+                .append(String.format(Locale.ROOT, "%.3f ms", statementLog.elapsedMillis()))
+                .append(", rows=").append(statementLog.rowCount());
+        if (statementLog.batchSize() > 0) {
+            message.append(", batch=").append(statementLog.batchSize());
+        }
+        message.append(", origin=").append(statementLog.origin())
+                .append("\n  sql    : ").append(statementLog.sql())
+                .append("\n  params : ").append(formatParameters(statementLog.parameters()));
+        if (statementLog.plan() != null) {
+            message.append("\n  plan   : ").append(statementLog.plan());
+        }
+        return message.toString();
+    }
+
+    private List<String> formatParameters(List<Object> parameters) {
+        List<String> formatted = new ArrayList<>(parameters.size());
+        for (Object parameter : parameters) {
+            if (parameter == null) {
+                formatted.add("null");
+            } else if (parameter instanceof CharSequence || parameter instanceof Number
+                    || parameter instanceof Boolean || parameter instanceof java.util.Date
+                    || parameter instanceof java.time.temporal.Temporal) {
+                String value = parameter.toString();
+                if (value.length() > properties.getMaxParameterLength()) {
+                    value = value.substring(0, properties.getMaxParameterLength()) + "...";
+                }
+                formatted.add(parameter instanceof CharSequence ? "'" + value + "'" : value);
+            } else {
+                formatted.add("<" + parameter.getClass().getSimpleName() + ">");
+            }
+        }
+        return formatted;
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,10 @@
+package study.querydsl.sqllog;
+
+/**
+ * 기록 대상 statement 를 받아 처리 (로그 외 수집이 필요할 때 Bean 으로 등록)
+ */
+@FunctionalInterface
+public interface SqlStatementListener {
+
+    void onStatement(SqlStatementLog statementLog);
+}
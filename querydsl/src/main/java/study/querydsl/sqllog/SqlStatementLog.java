@@ -0,0 +1,25 @@
+package study.querydsl.sqllog;
+
+import java.util.List;
+
+/**
+ * 기록 대상이 된 statement 한 건
+ *
+ * @param rowCount    조회 시 읽은 row 수, update 시 변경된 row 수 (알 수 없으면 -1)
+ * @param batchSize   batch 실행 시 묶인 statement 수 (batch 가 아니면 0)
+ * @param origin      statement 를 실행한 repository 메서드 (Class.method)
+ * @param plan        EXPLAIN 결과 (설정하지 않았거나 SELECT 가 아니면 null)
+ */
+public record SqlStatementLog(String sql,
+                              List<Object> parameters,
+                              long elapsedNanos,
+                              long rowCount,
+                              int batchSize,
+                              boolean slow,
+                              String origin,
+                              String plan) {
+
+    public double elapsedMillis() {
+        return elapsedNanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,48 @@
+package study.querydsl.stats;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class HibernateStatisticsConfig {
+
+    /**
+     * 통계는 LongAdder 카운터 증가 정도의 비용이며, session 마다 통계를 INFO 로그로 남기는
+     * StatisticalLoggingSessionEventListener 는 로그 레벨을 WARN 으로 두어 등록되지 않게 함 (application.yml)
+     */
+    @Bean
+    HibernatePropertiesCustomizer hibernateStatisticsCustomizer(HibernateStatisticsProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.isEnabled());
+            if (properties.isResponseHeader()) {
+                hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SessionMetricsListener.class.getName());
+            }
+        };
+    }
+
+    @Bean
+    HibernateStatisticsEndpoint hibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory,
+                                                            HibernateStatisticsProperties properties) {
+        if (properties.isResetEnabled()) {
+            return new ResettableHibernateStatisticsEndpoint(entityManagerFactory);
+        }
+        return new HibernateStatisticsEndpoint(entityManagerFactory);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "hibernate-statistics", name = "response-header", havingValue = "true")
+    WebMvcConfigurer sessionMetricsInterceptorConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new SessionMetricsInterceptor());
+            }
+        };
+    }
+}
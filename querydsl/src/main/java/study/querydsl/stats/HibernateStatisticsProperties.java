@@ -0,0 +1,20 @@
+package study.querydsl.stats;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Hibernate 통계 설정
+ * - enabled : hibernate.generate_statistics (/actuator/hibernate 에서 조회)
+ * - response-header : MemberControllerV1 응답에 요청 하나 동안의 session 지표를 X-Hibernate-Session 헤더로 추가
+ * - reset-enabled : DELETE /actuator/hibernate 로 통계 초기화 허용 (누구나 다른 사용자의 측정을 지울 수 있으므로 기본 false)
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "hibernate-statistics")
+public class HibernateStatisticsProperties {
+
+    private boolean enabled = true;
+    private boolean responseHeader = false;
+    private boolean resetEnabled = false;
+}
@@ -0,0 +1,25 @@
+package study.querydsl.stats;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+
+/**
+ * hibernate-statistics.reset-enabled=true 일 때 등록되는 /actuator/hibernate
+ * 조회에 더해 DELETE 로 통계 초기화
+ */
+@Endpoint(id = "hibernate")
+public class ResettableHibernateStatisticsEndpoint extends HibernateStatisticsEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ResettableHibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics(entityManagerFactory).clear();
+    }
+}
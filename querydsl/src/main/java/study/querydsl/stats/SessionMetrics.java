@@ -0,0 +1,73 @@
+package study.querydsl.stats;
+
+import lombok.Getter;
+
+/**
+ * 요청 하나 동안 Hibernate session 에서 일어난 일 (SessionMetricsListener 가 현재 스레드의 인스턴스에 누적)
+ */
+@Getter
+public class SessionMetrics {
+
+    private static final ThreadLocal<SessionMetrics> CURRENT = new ThreadLocal<>();
+
+    private long connections;
+    private long statements;
+    private long statementNanos;
+    private long batches;
+    private long flushes;
+    private long flushedEntities;
+    private long flushedCollections;
+    private long cacheHits;
+    private long cacheMisses;
+
+    public static SessionMetrics start() {
+        SessionMetrics metrics = new SessionMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    /**
+     * @return 측정 중이 아니면 null
+     */
+    public static SessionMetrics current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    void connectionAcquired() {
+        connections++;
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        statementNanos += nanos;
+    }
+
+    void batchExecuted(long nanos) {
+        batches++;
+        statementNanos += nanos;
+    }
+
+    void flushed(int entities, int collections) {
+        flushes++;
+        flushedEntities += entities;
+        flushedCollections += collections;
+    }
+
+    void cacheGet(boolean hit) {
+        if (hit) {
+            cacheHits++;
+        } else {
+            cacheMisses++;
+        }
+    }
+
+    public String toHeaderValue() {
+        return String.format("connections=%d; statements=%d; batches=%d; jdbc=%.3fms; flushes=%d; flushedEntities=%d; flushedCollections=%d; cacheHits=%d; cacheMisses=%d",
+                connections, statements, batches, statementNanos / 1_000_000.0,
+                flushes, flushedEntities, flushedCollections, cacheHits, cacheMisses);
+    }
+}
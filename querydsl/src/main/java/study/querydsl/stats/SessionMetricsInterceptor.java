@@ -0,0 +1,27 @@
+package study.querydsl.stats;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import study.querydsl.controller.MemberControllerV1;
+
+/**
+ * MemberControllerV1 요청 동안만 SessionMetrics 측정
+ */
+public class SessionMetricsInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod
+                && MemberControllerV1.class.isAssignableFrom(handlerMethod.getBeanType())) {
+            SessionMetrics.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        SessionMetrics.clear();
+    }
+}
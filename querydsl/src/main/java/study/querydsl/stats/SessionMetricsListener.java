@@ -0,0 +1,63 @@
+package study.querydsl.stats;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * hibernate.session.events.auto 로 session 마다 생성되는 listener
+ * 현재 스레드에서 측정 중인 SessionMetrics 가 있을 때만 누적 (없으면 시간 측정도 하지 않음)
+ */
+public class SessionMetricsListener extends BaseSessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        SessionMetrics metrics = SessionMetrics.current();
+        if (metrics != null) {
+            metrics.connectionAcquired();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = SessionMetrics.current() != null ? System.nanoTime() : 0;
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SessionMetrics metrics = SessionMetrics.current();
+        if (metrics != null && statementStart != 0) {
+            metrics.statementExecuted(System.nanoTime() - statementStart);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = SessionMetrics.current() != null ? System.nanoTime() : 0;
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SessionMetrics metrics = SessionMetrics.current();
+        if (metrics != null && batchStart != 0) {
+            metrics.batchExecuted(System.nanoTime() - batchStart);
+        }
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        SessionMetrics metrics = SessionMetrics.current();
+        if (metrics != null) {
+            metrics.flushed(numberOfEntities, numberOfCollections);
+        }
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        SessionMetrics metrics = SessionMetrics.current();
+        if (metrics != null) {
+            metrics.cacheGet(hit);
+        }
+    }
+}
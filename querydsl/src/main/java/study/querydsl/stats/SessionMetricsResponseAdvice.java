@@ -0,0 +1,38 @@
+package study.querydsl.stats;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import study.querydsl.controller.MemberControllerV1;
+
+/**
+ * MemberControllerV1 응답 body 를 쓰기 직전에 요청 동안의 SessionMetrics 를 헤더로 추가
+ * (측정 시작 / 정리는 SessionMetricsInterceptor)
+ */
+@ControllerAdvice(assignableTypes = MemberControllerV1.class)
+@ConditionalOnProperty(prefix = "hibernate-statistics", name = "response-header", havingValue = "true")
+public class SessionMetricsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Hibernate-Session";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SessionMetrics metrics = SessionMetrics.current();
+        if (metrics != null) {
+            response.getHeaders().set(HEADER, metrics.toHeaderValue());
+        }
+        return body;
+    }
+}
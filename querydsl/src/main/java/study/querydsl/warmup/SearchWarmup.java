@@ -0,0 +1,141 @@
+package study.querydsl.warmup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.querydsl.controller.SeedCompletedEvent;
+import study.querydsl.controller.SeedHealthIndicator;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.repository.MemberJPARepository;
+import study.querydsl.repository.MemberRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 기동 직후 첫 요청이 느린 문제 (HQL 쿼리 플랜 캐시, QueryDSL 직렬화, JIT) 를 줄이기 위한 warm-up
+ * - ApplicationRunner 는 ReadinessState.ACCEPTING_TRAFFIC 이전에 실행되므로 warm-up 이 끝난 뒤 트래픽을 받음
+ * - 초기 데이터를 적재 중이면 (InitMember) 적재가 끝난 뒤 readiness 가 UP 이 되기 전에 실행
+ * - pass 시간이 수렴하면 중단하고, budget 은 상한으로만 사용
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "warmup", name = "enabled", havingValue = "true")
+public class SearchWarmup implements ApplicationRunner {
+
+    // count 쿼리까지 실행되도록 두번째 페이지를 조회
+    private static final PageRequest COUNT_PAGE = PageRequest.of(1, 1);
+
+    private final WarmupProperties warmupProperties;
+    private final MemberRepository memberRepository;
+    private final MemberJPARepository memberJPARepository;
+    private final PlatformTransactionManager transactionManager;
+    private final SeedHealthIndicator seedHealthIndicator;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (seedHealthIndicator.isSeeding()) {
+            log.info("search warm-up : deferred until member seeding completes");
+            return;
+        }
+        warmUp();
+    }
+
+    @EventListener(SeedCompletedEvent.class)
+    public void afterSeeding() {
+        // warm-up 실패로 readiness 가 막히지 않도록 로그만 남김
+        try {
+            warmUp();
+        } catch (RuntimeException e) {
+            log.warn("search warm-up failed", e);
+        }
+    }
+
+    private void warmUp() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<MemberSearchCondition> conditions = conditionShapes();
+        long start = System.nanoTime();
+        List<Long> passNanos = repeatUntilConverged(
+                () -> readOnly.executeWithoutResult(status -> conditions.forEach(this::search)),
+                warmupProperties.getBudget(), warmupProperties.getTolerance(), System::nanoTime);
+
+        log.info("search warm-up : {} shapes x {} passes in {} ms, first pass {} ms -> last pass {} ms",
+                conditions.size(), passNanos.size(), (System.nanoTime() - start) / 1_000_000,
+                String.format("%.2f", passNanos.get(0) / 1_000_000.0),
+                String.format("%.2f", passNanos.get(passNanos.size() - 1) / 1_000_000.0));
+    }
+
+    /**
+     * pass 를 반복하다 직전 pass 와의 시간 차이가 tolerance 이내이면 중단
+     * 다음 pass 가 지금까지 가장 느린 pass 만큼 걸려 budget 을 넘길 수 있으면 수렴하지 않아도 중단 (첫 pass 는 항상 실행)
+     *
+     * @return pass 별 실행 시간 (nanos)
+     */
+    static List<Long> repeatUntilConverged(Runnable pass, Duration budget, double tolerance, LongSupplier nanoTime) {
+        long budgetNanos = budget.toNanos();
+        long start = nanoTime.getAsLong();
+        List<Long> passNanos = new ArrayList<>();
+        long slowestPass = 0;
+        while (true) {
+            long passStart = nanoTime.getAsLong();
+            pass.run();
+            long elapsed = nanoTime.getAsLong() - passStart;
+            passNanos.add(elapsed);
+            slowestPass = Math.max(slowestPass, elapsed);
+
+            if (passNanos.size() > 1) {
+                long previous = passNanos.get(passNanos.size() - 2);
+                if (Math.abs(previous - elapsed) <= previous * tolerance) {
+                    return passNanos;
+                }
+            }
+            if (nanoTime.getAsLong() - start + slowestPass > budgetNanos) {
+                return passNanos;
+            }
+        }
+    }
+
+    private void search(MemberSearchCondition condition) {
+        memberRepository.search(condition);
+        memberRepository.searchPageSimple(condition, COUNT_PAGE);
+        memberRepository.searchPageComplex(condition, COUNT_PAGE);
+        memberJPARepository.searchMemberTeamDtoByCondition(condition);
+        memberJPARepository.searchMemberTeamDtoByParameter(condition);
+    }
+
+    /**
+     * username / teamName / ageGoe / ageLoe 의 유무 조합 16가지
+     */
+    static List<MemberSearchCondition> conditionShapes() {
+        List<MemberSearchCondition> conditions = new ArrayList<>();
+        for (int shape = 0; shape < 16; shape++) {
+            MemberSearchCondition condition = new MemberSearchCondition();
+            if ((shape & 1) != 0) {
+                condition.setUsername("warmup");
+            }
+            if ((shape & 2) != 0) {
+                condition.setTeamName("warmup");
+            }
+            if ((shape & 4) != 0) {
+                condition.setAgeGoe(0);
+            }
+            if ((shape & 8) != 0) {
+                condition.setAgeLoe(0);
+            }
+            conditions.add(condition);
+        }
+        return conditions;
+    }
+}
@@ -0,0 +1,20 @@
+package study.querydsl.warmup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    private boolean enabled = false;
+
+    /** warm-up 에 사용할 최대 시간 (최소 1회는 모든 조건을 실행) */
+    private Duration budget = Duration.ofSeconds(10);
+
+    /** 직전 pass 와의 시간 차이가 이 비율 이내이면 수렴한 것으로 보고 중단 */
+    private double tolerance = 0.05;
+}
@@ -1,15 +1,22 @@
 package study.querydsl;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.r2dbc.spi.ConnectionFactory;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.Commit;
 import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.dto.MemberSearchCondition;
 import study.querydsl.entity.Hello;
 import study.querydsl.entity.QHello;
+import study.querydsl.repository.MemberReactiveRepository;
+
+import javax.sql.DataSource;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -21,6 +28,21 @@ class QuerydslApplicationTests {
 	@Autowired
 	EntityManager em;
 
+	@Autowired
+	DataSource dataSource;
+
+	@Autowired
+	ConnectionFactory connectionFactory;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	JPAQueryFactory jpaQueryFactory;
+
+	@Autowired
+	MemberReactiveRepository memberReactiveRepository;
+
 	@Test
 	void contextLoads() {
 		Hello hello = new Hello();
@@ -38,4 +60,14 @@ class QuerydslApplicationTests {
 		assertThat(result.getId()).isEqualTo(hello.getId());
 	}
 
+	// R2DBC ConnectionFactory 가 있어도 JDBC DataSource / JPA 가 함께 등록되어야 함 (DataSourceConfig)
+	@Test
+	void jdbcAndR2dbcTogether() {
+		assertThat(entityManagerFactory).isNotNull();
+		assertThat(jpaQueryFactory).isNotNull();
+		assertThat(new JdbcTemplate(dataSource).queryForObject("select 1", Integer.class)).isEqualTo(1);
+		assertThat(connectionFactory).isNotNull();
+		assertThat(memberReactiveRepository.search(new MemberSearchCondition()).collectList().block()).isNotNull();
+	}
+
 }
@@ -0,0 +1,96 @@
+package study.querydsl.archive;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+import study.querydsl.repository.MemberRepository;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "archive.enabled=true",
+        "archive.team-names=TeamB",
+        "archive.chunk-size=1",
+        "archive.interval=1h"
+})
+@Transactional
+class MemberArchiverTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    MemberArchiver memberArchiver;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ScheduledTaskHolder scheduledTaskHolder;
+
+    @BeforeEach
+    public void setTestCase() {
+        Team teamA = new Team("TeamA");
+        Team teamB = new Team("TeamB");
+        em.persist(teamA);
+        em.persist(teamB);
+
+        em.persist(new Member("Member1", 10, teamA));
+        em.persist(new Member("Member2", 20, teamA));
+        em.persist(new Member("Member3", 30, teamB));
+        em.persist(new Member("Member4", 40, teamB));
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void archiveColdMembers() {
+        // chunk-size=1 : chunk 2 번
+        assertThat(memberArchiver.archive()).isEqualTo(2);
+        assertThat(memberArchiver.archive()).isZero();
+
+        MemberSearchCondition condition = new MemberSearchCondition();
+        assertThat(memberRepository.search(condition)).extracting("username").containsExactlyInAnyOrder("Member1", "Member2");
+
+        condition.setIncludeArchived(true);
+        List<MemberTeamDto> all = memberRepository.search(condition);
+        assertThat(all).extracting("username").containsExactlyInAnyOrder("Member1", "Member2", "Member3", "Member4");
+
+        condition.setTeamName("TeamB");
+        Page<MemberTeamDto> page = memberRepository.searchPageComplex(condition, PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "age")));
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting("username").containsExactly("Member4");
+
+        assertThat(memberRepository.searchBatch(List.of(condition)).get(0)).extracting("teamName").containsOnly("TeamB").hasSize(2);
+    }
+
+    @Test
+    public void scheduledWithBoundInterval() {
+        // archive.interval=1h (Duration 바인딩) 이 그대로 fixed delay / initial delay 로 사용됨
+        assertThat(scheduledTaskHolder.getScheduledTasks())
+                .map(scheduledTask -> scheduledTask.getTask())
+                .filteredOn(FixedDelayTask.class::isInstance)
+                .map(FixedDelayTask.class::cast)
+                .singleElement()
+                .satisfies(task -> {
+                    assertThat(task.getIntervalDuration()).isEqualTo(Duration.ofHours(1));
+                    assertThat(task.getInitialDelayDuration()).isEqualTo(Duration.ofHours(1));
+                });
+    }
+}
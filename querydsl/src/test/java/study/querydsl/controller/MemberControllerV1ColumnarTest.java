@@ -0,0 +1,63 @@
+package study.querydsl.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import study.querydsl.readmodel.MemberColumnStore;
+import study.querydsl.readmodel.MemberReadModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * member.search.backend=columnar 이면 /v1/members 도 column store 에서 응답 (DB 조회 없음)
+ */
+@SpringBootTest(properties = "member.search.backend=columnar")
+@AutoConfigureMockMvc
+class MemberControllerV1ColumnarTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MemberColumnStore memberColumnStore;
+
+    @PersistenceUnit
+    EntityManagerFactory emf;
+
+    // DB 에는 없고 column store 에만 있는 member
+    @BeforeEach
+    public void setTestCase() {
+        memberColumnStore.teamSaved(-1L, "ColumnarTeam");
+        memberColumnStore.memberSaved(new MemberReadModel.MemberChange(-1L, "ColumnarMember", 33, -1L));
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        memberColumnStore.memberRemoved(-1L);
+    }
+
+    @Test
+    public void searchFromColumnStore() throws Exception {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/v1/members").param("teamName", "ColumnarTeam"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].username").value("ColumnarMember"))
+                .andExpect(jsonPath("$[0].teamName").value("ColumnarTeam"))
+                .andExpect(jsonPath("$.length()").value(1));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
@@ -0,0 +1,150 @@
+package study.querydsl.controller;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+import study.querydsl.readmodel.DataVersion;
+import study.querydsl.readmodel.MemberDataChangedEvent;
+import study.querydsl.repository.MemberSearchProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class MemberSearchETagTest {
+
+    @Autowired
+    EntityManager em;
+
+    @PersistenceUnit
+    EntityManagerFactory emf;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    DataVersion dataVersion;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setTestCase() {
+        Team teamA = new Team("TeamA");
+        em.persist(teamA);
+        for (int i = 0; i < 5; i++) {
+            em.persist(new Member("Member" + i, i, teamA));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void notModifiedWithoutQuery() throws Exception {
+        String eTag = fetchETag(search("0"));
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(search("0").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // 다른 페이지는 다른 ETag
+        mockMvc.perform(search("1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void versionChangesAfterCommit() throws Exception {
+        String eTag = fetchETag(search("0"));
+
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // 롤백된 변경은 버전을 바꾸지 않음
+        requiresNew.executeWithoutResult(status -> {
+            dataVersion.changed();
+            status.setRollbackOnly();
+        });
+        mockMvc.perform(search("0").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        requiresNew.executeWithoutResult(status -> dataVersion.changed());
+        String committed = fetchETag(search("0").header(HttpHeaders.IF_NONE_MATCH, eTag));
+        assertThat(committed).isNotEqualTo(eTag);
+
+        // bulk 연산 / JDBC 적재는 이벤트로 알림 (롤백되면 무시, 커밋 후 반영)
+        requiresNew.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new MemberDataChangedEvent("bulk update"));
+            status.setRollbackOnly();
+        });
+        mockMvc.perform(search("0").header(HttpHeaders.IF_NONE_MATCH, committed))
+                .andExpect(status().isNotModified());
+
+        requiresNew.executeWithoutResult(status -> eventPublisher.publishEvent(new MemberDataChangedEvent("bulk update")));
+        String afterEvent = fetchETag(search("0").header(HttpHeaders.IF_NONE_MATCH, committed));
+        assertThat(afterEvent).isNotEqualTo(committed);
+    }
+
+    @Test
+    public void disabledWhenVersionIsNotShared() {
+        MemberSearchProperties properties = new MemberSearchProperties();
+        properties.setEtag(false);
+        MemberSearchETag memberSearchETag = new MemberSearchETag(dataVersion, properties);
+
+        MemberSearchCondition condition = new MemberSearchCondition();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/members");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, memberSearchETag.of("v1", condition, Pageable.unpaged()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // 같은 ETag 라도 304 없이 조회, ETag 헤더도 내려주지 않음
+        assertThat(memberSearchETag.notModified(new ServletWebRequest(request, response), "v1", condition, Pageable.unpaged()))
+                .isFalse();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    private MockHttpServletRequestBuilder search(String page) {
+        return get("/v2/members")
+                .param("teamName", "TeamA")
+                .param("page", page)
+                .param("size", "2");
+    }
+
+    private String fetchETag(MockHttpServletRequestBuilder request) throws Exception {
+        String eTag = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+        return eTag;
+    }
+}
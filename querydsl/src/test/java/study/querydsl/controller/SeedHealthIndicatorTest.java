@@ -0,0 +1,94 @@
+package study.querydsl.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SeedHealthIndicatorTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    SeedHealthIndicator seedHealthIndicator;
+
+    // 다른 테스트와 context 를 공유하므로 적재 완료 상태로 되돌림
+    @AfterEach
+    public void restore() {
+        seedHealthIndicator.seeding();
+        seedHealthIndicator.completed();
+    }
+
+    @Test
+    public void states() {
+        SeedHealthIndicator indicator = new SeedHealthIndicator();
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(indicator.isSeeding()).isFalse();
+
+        indicator.seeding();
+        Health seeding = indicator.health();
+        assertThat(seeding.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(seeding.getDetails()).containsKey("elapsedMs");
+        assertThat(indicator.isSeeding()).isTrue();
+
+        indicator.completed();
+        Health completed = indicator.health();
+        assertThat(completed.getStatus()).isEqualTo(Status.UP);
+        assertThat(completed.getDetails()).containsKey("durationMs");
+        assertThat(indicator.isSeeding()).isFalse();
+
+        indicator.failed(new IllegalStateException("boom"));
+        Health failed = indicator.health();
+        assertThat(failed.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(failed.getDetails()).containsEntry("error", "java.lang.IllegalStateException: boom");
+    }
+
+    @Test
+    public void readinessWaitsForSeed() throws Exception {
+        seedHealthIndicator.seeding();
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value("OUT_OF_SERVICE"))
+                .andExpect(jsonPath("$.components.seed.status").value("OUT_OF_SERVICE"));
+        // liveness 는 적재와 무관
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isOk());
+
+        seedHealthIndicator.completed();
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components.seed.status").value("UP"))
+                .andExpect(jsonPath("$.components.seed.details.durationMs").exists());
+    }
+
+    @Test
+    public void readinessDownWhenSeedFails() throws Exception {
+        seedHealthIndicator.failed(new IllegalStateException("boom"));
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.components.seed.status").value("DOWN"));
+    }
+
+    @Test
+    public void healthDetailsHiddenWithoutAuthorization() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.components").doesNotExist());
+    }
+}
@@ -0,0 +1,88 @@
+package study.querydsl.dataset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 여러 커넥션에서 각각 commit 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@SpringBootTest
+class MemberDatasetGeneratorTest {
+
+    @Autowired
+    MemberDatasetGenerator memberDatasetGenerator;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("delete from member");
+        jdbcTemplate.update("delete from team");
+    }
+
+    @Test
+    public void insertMembersInParallel() {
+        // 마지막 chunk 는 batchSize 보다 작음 (2_050 = 100 * 20 + 50)
+        MemberDataset dataset = dataset(2_050);
+
+        memberDatasetGenerator.insertTeams(dataset);
+        memberDatasetGenerator.insertMembersInParallel(dataset, 100, 4);
+
+        assertThat(loadMembers()).containsExactlyElementsOf(expectedMembers(dataset));
+    }
+
+    @Test
+    public void parallelismOneInsertsSameRows() {
+        MemberDataset dataset = dataset(250);
+
+        memberDatasetGenerator.insertTeams(dataset);
+        memberDatasetGenerator.insertMembersInParallel(dataset, 100, 1);
+
+        assertThat(loadMembers()).containsExactlyElementsOf(expectedMembers(dataset));
+    }
+
+    @Test
+    public void chunkFailurePropagates() {
+        MemberDataset dataset = dataset(500);
+        memberDatasetGenerator.insertTeams(dataset);
+        memberDatasetGenerator.insertMembersInParallel(dataset, 100, 4);
+
+        // 같은 id 로 다시 적재하면 모든 chunk 가 primary key 위반
+        assertThatThrownBy(() -> memberDatasetGenerator.insertMembersInParallel(dataset, 100, 4))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("dataset generation failed");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from member", Long.class)).isEqualTo(500);
+    }
+
+    private static MemberDataset dataset(long members) {
+        DatasetProperties properties = new DatasetProperties();
+        properties.setMembers(members);
+        properties.setTeams(10);
+        return new MemberDataset(properties);
+    }
+
+    private static List<MemberDataset.MemberRow> expectedMembers(MemberDataset dataset) {
+        return LongStream.rangeClosed(1, dataset.memberCount())
+                .mapToObj(dataset::member)
+                .toList();
+    }
+
+    private List<MemberDataset.MemberRow> loadMembers() {
+        return jdbcTemplate.query("select member_id, username, age, team_id from member order by member_id",
+                (rs, rowNum) -> new MemberDataset.MemberRow(
+                        rs.getLong("member_id"),
+                        rs.getString("username"),
+                        rs.getInt("age"),
+                        rs.getObject("team_id", Long.class)));
+    }
+}
@@ -0,0 +1,62 @@
+package study.querydsl.dataset;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberDatasetTest {
+
+    @Test
+    public void sameSeedSameData() {
+        DatasetProperties properties = new DatasetProperties();
+        properties.setMembers(1_000);
+
+        MemberDataset dataset1 = new MemberDataset(properties);
+        MemberDataset dataset2 = new MemberDataset(properties.copy());
+
+        for (long id = 1; id <= 1_000; id++) {
+            assertThat(dataset1.member(id)).isEqualTo(dataset2.member(id));
+        }
+
+        DatasetProperties otherSeed = properties.copy();
+        otherSeed.setSeed(7L);
+        assertThat(new MemberDataset(otherSeed).member(1)).isNotEqualTo(dataset1.member(1));
+    }
+
+    @Test
+    public void distribution() {
+        DatasetProperties properties = new DatasetProperties();
+        properties.setMembers(100_000);
+        properties.setTeams(100);
+        properties.setNullTeamRatio(0.2);
+        properties.setLongUsernameRatio(0.05);
+        MemberDataset dataset = new MemberDataset(properties);
+
+        Map<Long, Integer> teamSizes = new HashMap<>();
+        int nullTeams = 0;
+        int longUsernames = 0;
+        for (long id = 1; id <= properties.getMembers(); id++) {
+            MemberDataset.MemberRow row = dataset.member(id);
+
+            assertThat(row.age()).isBetween(properties.getAgeMin(), properties.getAgeMax());
+            assertThat(row.username().length()).isLessThanOrEqualTo(properties.getLongUsernameMaxLength());
+
+            if (row.teamId() == null) {
+                nullTeams++;
+            } else {
+                teamSizes.merge(row.teamId(), 1, Integer::sum);
+            }
+            if (row.username().length() > properties.getUsernameMaxLength()) {
+                longUsernames++;
+            }
+        }
+
+        assertThat(nullTeams / 100_000.0).isBetween(0.18, 0.22);
+        assertThat(longUsernames / 100_000.0).isBetween(0.04, 0.06);
+        // Zipf : 1번 팀이 가장 크고 마지막 팀보다 훨씬 큼
+        assertThat(teamSizes.get(1L)).isGreaterThan(teamSizes.get(100L) * 50);
+    }
+}
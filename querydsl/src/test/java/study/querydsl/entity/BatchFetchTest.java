@@ -0,0 +1,78 @@
+package study.querydsl.entity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.repository.MemberJPARepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class BatchFetchTest {
+
+    static final int TEAM_COUNT = 150;
+    static final int MEMBER_COUNT = 1_000;
+
+    @Autowired
+    EntityManager em;
+
+    @PersistenceUnit
+    EntityManagerFactory emf;
+
+    @Autowired
+    MemberJPARepository memberJPARepository;
+
+    Statistics statistics;
+
+    @BeforeEach
+    public void setTestCase() {
+        Team[] teams = new Team[TEAM_COUNT];
+        for (int i = 0; i < TEAM_COUNT; i++) {
+            teams[i] = new Team("Team" + i);
+            em.persist(teams[i]);
+        }
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            em.persist(new Member("Member" + i, i % 100, teams[i % TEAM_COUNT]));
+        }
+        em.flush();
+        em.clear();
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void memberTeamBatchFetch() {
+        List<Member> members = memberJPARepository.findAllQueryDsl();
+        assertThat(members).hasSize(MEMBER_COUNT);
+
+        statistics.clear();
+        members.forEach(member -> member.getTeam().getTeamName());
+
+        // 150 개의 team 프록시를 100 개씩 : 2 번
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo((TEAM_COUNT + Team.BATCH_SIZE - 1) / Team.BATCH_SIZE);
+    }
+
+    @Test
+    public void teamMembersBatchFetch() {
+        List<Team> teams = em.createQuery("select t from Team t", Team.class).getResultList();
+        assertThat(teams).hasSize(TEAM_COUNT);
+
+        statistics.clear();
+        int total = teams.stream().mapToInt(team -> team.getMembers().size()).sum();
+
+        assertThat(total).isEqualTo(MEMBER_COUNT);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo((TEAM_COUNT + Team.BATCH_SIZE - 1) / Team.BATCH_SIZE);
+    }
+}
@@ -0,0 +1,80 @@
+package study.querydsl.entity;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.querydsl.dataset.DatasetProperties;
+import study.querydsl.dataset.MemberDatasetGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * member 100만 명인 team 에 member 를 추가하는 비용 (Team.members 를 로딩하지 않는지 확인)
+ * 데이터는 커밋되므로 @Transactional 대신 끝난 후 삭제
+ * ./gradlew benchmark --tests "*ChangeTeamBenchmarkTest"
+ */
+@Tag("benchmark")
+@ActiveProfiles("bench")
+@SpringBootTest
+class ChangeTeamBenchmarkTest {
+
+    static final int TEAM_SIZE = 1_000_000;
+    static final int INSERTS = 100;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    MemberDatasetGenerator memberDatasetGenerator;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setTestCase() {
+        DatasetProperties properties = new DatasetProperties();
+        properties.setMembers(TEAM_SIZE);
+        properties.setTeams(1);
+        properties.setNullTeamRatio(0);
+        memberDatasetGenerator.generate(properties);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("delete from member");
+        jdbcTemplate.update("delete from team");
+    }
+
+    @Test
+    public void insertIntoLargeTeam() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Team team = em.find(Team.class, 1L);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < INSERTS; i++) {
+                em.persist(new Member("Inserted" + i, i, team));
+            }
+            em.flush();
+            long elapsed = System.nanoTime() - start;
+
+            // inverse 컬렉션에 대한 add 는 큐에 쌓이므로 team 의 member 를 읽지 않음
+            assertThat(Hibernate.isInitialized(team.getMembers())).isFalse();
+            System.out.printf("[changeTeam] team size=%d, %d inserts, %.2f ms (%.3f ms / insert), managed entities=%d%n",
+                    TEAM_SIZE, INSERTS, elapsed / 1_000_000.0, elapsed / 1_000_000.0 / INSERTS,
+                    em.unwrap(Session.class).getStatistics().getEntityCount());
+            status.setRollbackOnly();
+        });
+    }
+}
@@ -0,0 +1,138 @@
+package study.querydsl.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 영속성 컨텍스트에 Member 100k 건이 관리되고 있을 때의 flush 비용 (바이트코드 향상 vs 스냅샷 비교)
+ * 바이트코드 향상(dirty tracking) 적용 시 변경되지 않은 엔티티는 필드 비교 없이 건너뜀
+ * 향상은 main 소스셋에만 적용되므로 같은 컬럼을 가진 테스트 엔티티 (UnenhancedMember) 로 스냅샷 비교 비용을 측정
+ * ./gradlew benchmark --tests "*FlushBenchmarkTest"
+ */
+@Tag("benchmark")
+@ActiveProfiles("bench")
+@SpringBootTest
+@Transactional
+class FlushBenchmarkTest {
+
+    static final int MEMBER_COUNT = 100_000;
+
+    @Entity
+    @Table(name = "unenhanced_member")
+    @Getter @Setter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    static class UnenhancedMember {
+
+        @Id @GeneratedValue
+        @Column(name = "member_id")
+        private Long id;
+        private String username;
+        private int age;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "team_id")
+        private Team team;
+
+        UnenhancedMember(String username, int age, Team team) {
+            this.username = username;
+            this.age = age;
+            this.team = team;
+        }
+    }
+
+    record Measurement(boolean enhanced, long cleanFlushNanos, long dirtyFlushNanos) {
+    }
+
+    @Autowired
+    EntityManager em;
+
+    @BeforeEach
+    public void setTestCase() {
+        Team teamA = new Team("TeamA");
+        em.persist(teamA);
+
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            em.persist(new Member("Member" + i, i % 100, teamA));
+            em.persist(new UnenhancedMember("Member" + i, i % 100, teamA));
+            if (i % 10_000 == 0) {
+                em.flush();
+                em.clear();
+                teamA = em.getReference(Team.class, teamA.getId());
+            }
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void enhancedVsSnapshotFlush() {
+        // warm-up
+        measure(Member.class, member -> member.setAge(member.getAge() + 1));
+        measure(UnenhancedMember.class, member -> member.setAge(member.getAge() + 1));
+
+        Measurement enhanced = measure(Member.class, member -> member.setAge(member.getAge() + 1));
+        Measurement snapshot = measure(UnenhancedMember.class, member -> member.setAge(member.getAge() + 1));
+
+        print("enhanced", enhanced);
+        print("snapshot", snapshot);
+
+        assertThat(enhanced.enhanced()).isTrue();
+        assertThat(snapshot.enhanced()).isFalse();
+        // 변경 없는 flush 에서 필드 비교를 건너뛰므로 더 빠름
+        assertThat(enhanced.cleanFlushNanos()).isLessThan(snapshot.cleanFlushNanos());
+    }
+
+    private <T> Measurement measure(Class<T> entityClass, Consumer<T> change) {
+        List<T> members = em.createQuery("SELECT m FROM " + entityClass.getSimpleName() + " m", entityClass)
+                .getResultList();
+        assertThat(members).hasSize(MEMBER_COUNT);
+
+        // 변경 없는 flush : dirty checking 비용만 측정
+        long start = System.nanoTime();
+        em.flush();
+        long cleanFlushNanos = System.nanoTime() - start;
+
+        // 1% 변경 후 flush
+        for (int i = 0; i < members.size(); i += 100) {
+            change.accept(members.get(i));
+        }
+        start = System.nanoTime();
+        em.flush();
+        long dirtyFlushNanos = System.nanoTime() - start;
+
+        boolean enhanced = members.get(0) instanceof SelfDirtinessTracker;
+        em.clear();
+        return new Measurement(enhanced, cleanFlushNanos, dirtyFlushNanos);
+    }
+
+    private static void print(String label, Measurement measurement) {
+        System.out.printf("[flush] %s : enhanced=%s, managed=%d, clean flush=%.2f ms, 1%% dirty flush=%.2f ms%n",
+                label, measurement.enhanced(), MEMBER_COUNT,
+                measurement.cleanFlushNanos() / 1_000_000.0, measurement.dirtyFlushNanos() / 1_000_000.0);
+    }
+}
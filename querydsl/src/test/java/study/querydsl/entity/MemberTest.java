@@ -2,6 +2,9 @@ package study.querydsl.entity;
 
 import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -60,4 +63,52 @@ class MemberTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void bytecodeEnhancementTest() {
+        Team teamA = new Team("TeamA");
+        em.persist(teamA);
+        Member member1 = new Member("Member1", 10, teamA);
+        em.persist(member1);
+
+        em.flush();
+        em.clear();
+
+        // 빌드 시 바이트코드 향상이 적용되었는지 확인
+        Member findMember = em.find(Member.class, member1.getId());
+        assertThat(findMember).isInstanceOf(SelfDirtinessTracker.class);
+        assertThat(findMember).isInstanceOf(PersistentAttributeInterceptable.class);
+
+        SelfDirtinessTracker tracker = (SelfDirtinessTracker) findMember;
+        assertThat(tracker.$$_hibernate_hasDirtyAttributes()).isFalse();
+
+        findMember.setAge(20);
+        assertThat(tracker.$$_hibernate_getDirtyAttributes()).containsExactly("age");
+
+        em.flush();
+        em.clear();
+
+        assertThat(em.find(Member.class, member1.getId()).getAge()).isEqualTo(20);
+    }
+
+    @Test
+    public void changeTeamTest() {
+        Team teamA = new Team("TeamA");
+        em.persist(teamA);
+        Member member1 = new Member("Member1", 10, teamA);
+        em.persist(member1);
+        // 새로 만든 team 의 컬렉션에는 추가됨
+        assertThat(teamA.getMembers()).containsExactly(member1);
+
+        em.flush();
+        em.clear();
+
+        // 영속 상태 team 의 로딩되지 않은 inverse 컬렉션에 add 하면 로딩 없이 큐에 쌓임
+        Team findTeam = em.find(Team.class, teamA.getId());
+        Member member2 = new Member("Member2", 20, findTeam);
+        em.persist(member2);
+        assertThat(Hibernate.isInitialized(findTeam.getMembers())).isFalse();
+
+        // flush 전에 로딩해도 큐에 쌓인 member 가 반영됨
+        assertThat(findTeam.getMembers()).extracting("username").containsExactlyInAnyOrder("Member1", "Member2");
+    }
+}
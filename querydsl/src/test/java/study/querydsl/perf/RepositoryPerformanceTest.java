@@ -0,0 +1,251 @@
+package study.querydsl.perf;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+import study.querydsl.repository.MemberFetchPlan;
+import study.querydsl.repository.MemberJPARepository;
+import study.querydsl.repository.MemberRepository;
+import study.querydsl.sqllog.SqlStatementListener;
+import study.querydsl.sqllog.SqlStatementLog;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * repository 메서드별 성능 예산 (statement 수, 읽은 row 수, 할당량, 실행 계획) 검사
+ * - statement / row 수는 데이터셋에서 정해지므로 쿼리가 추가되거나 조회 범위가 넓어지면 실패
+ * - 실행 계획은 slow-query-log 의 EXPLAIN 결과에 index 이름이 있는지 확인
+ * - 할당량은 SQL 로그 계측 비용까지 포함한 느슨한 상한 (자릿수가 바뀌는 회귀를 잡는 용도)
+ * ./gradlew performanceTest
+ */
+@Tag("performance")
+@ActiveProfiles("perf")
+@SpringBootTest
+@Transactional
+class RepositoryPerformanceTest {
+
+    static final int TEAM_COUNT = 10;
+    static final int MEMBER_COUNT = 1_000;
+
+    static final String USERNAME_INDEX = "IDX_MEMBER_USERNAME";
+    static final String PRIMARY_KEY = "PRIMARY_KEY";
+
+    static final List<SqlStatementLog> LOGS = new CopyOnWriteArrayList<>();
+
+    static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @TestConfiguration
+    static class CaptureConfig {
+        @Bean
+        SqlStatementListener captureListener() {
+            return LOGS::add;
+        }
+    }
+
+    /**
+     * @param allocatedBytes 측정 스레드의 할당량 상한
+     * @param plans          EXPLAIN 결과 중 하나에 포함되어야 하는 문자열 (index 이름 등)
+     */
+    record QueryBudget(int statements, long rows, long allocatedBytes, List<String> plans) {
+
+        static QueryBudget of(int statements, long rows, long allocatedKb) {
+            return new QueryBudget(statements, rows, allocatedKb * 1024, List.of());
+        }
+
+        QueryBudget using(String plan) {
+            List<String> required = new ArrayList<>(plans);
+            required.add(plan);
+            return new QueryBudget(statements, rows, allocatedBytes, List.copyOf(required));
+        }
+    }
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    MemberJPARepository memberJPARepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    /**
+     * member i : username "Member{i}", age i % 100, team "Team{i % 10}"
+     */
+    @BeforeEach
+    public void setTestCase() {
+        Team[] teams = new Team[TEAM_COUNT];
+        for (int i = 0; i < TEAM_COUNT; i++) {
+            teams[i] = new Team("Team" + i);
+            em.persist(teams[i]);
+        }
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            em.persist(new Member("Member" + i, i % 100, teams[i % TEAM_COUNT]));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void findById() {
+        Long id = memberJPARepository.findByUsername("Member500").get(0).getId();
+        em.clear();
+
+        assertBudget(QueryBudget.of(1, 1, 1024).using(PRIMARY_KEY),
+                () -> memberJPARepository.findById(id).orElseThrow());
+        assertBudget(QueryBudget.of(1, 1, 2 * 1024).using(PRIMARY_KEY),
+                () -> memberJPARepository.findByIdQueryDsl(id).orElseThrow());
+    }
+
+    @Test
+    public void findAll() {
+        List<Member> result = assertBudget(QueryBudget.of(1, MEMBER_COUNT, 16 * 1024),
+                () -> memberJPARepository.findAll());
+        assertThat(result).hasSize(MEMBER_COUNT);
+
+        result = assertBudget(QueryBudget.of(1, MEMBER_COUNT, 16 * 1024),
+                () -> memberJPARepository.findAllQueryDsl());
+        assertThat(result).hasSize(MEMBER_COUNT);
+
+        result = assertBudget(QueryBudget.of(1, MEMBER_COUNT, 32 * 1024),
+                () -> memberJPARepository.findAllQueryDsl(MemberFetchPlan.WITH_TEAM));
+        assertThat(result).hasSize(MEMBER_COUNT);
+    }
+
+    @Test
+    public void touchLazyTeams() {
+        // member 1번 + team 프록시 batch 1번 (@BatchSize)
+        List<Member> result = assertBudget(QueryBudget.of(2, MEMBER_COUNT + TEAM_COUNT, 16 * 1024), () -> {
+            List<Member> members = memberJPARepository.findAllQueryDsl();
+            members.forEach(member -> member.getTeam().getTeamName());
+            return members;
+        });
+        assertThat(result).hasSize(MEMBER_COUNT);
+    }
+
+    @Test
+    public void findByUsername() {
+        QueryBudget budget = QueryBudget.of(1, 1, 2 * 1024).using(USERNAME_INDEX);
+
+        assertThat(assertBudget(budget, () -> memberJPARepository.findByUsername("Member500"))).hasSize(1);
+        assertThat(assertBudget(budget, () -> memberJPARepository.findByUsernameQueryDsl("Member500"))).hasSize(1);
+        assertThat(assertBudget(budget,
+                () -> memberJPARepository.findByUsernameQueryDsl("Member500", MemberFetchPlan.WITH_TEAM))).hasSize(1);
+        assertThat(assertBudget(budget, () -> memberRepository.findByUsername("Member500"))).hasSize(1);
+        assertThat(assertBudget(budget, () -> memberRepository.findWithTeamByUsername("Member500"))).hasSize(1);
+    }
+
+    @Test
+    public void search() {
+        MemberSearchCondition byUsername = new MemberSearchCondition();
+        byUsername.setUsername("Member500");
+        List<MemberTeamDto> result = assertBudget(QueryBudget.of(1, 1, 2 * 1024).using(USERNAME_INDEX),
+                () -> memberRepository.search(byUsername));
+        assertThat(result).extracting("username").containsExactly("Member500");
+
+        // Team1 이면서 age 20 ~ 39 : 100 명 단위마다 21, 31 → 20 명
+        MemberSearchCondition byTeamAndAge = teamAndAge("Team1", 20, 39);
+        result = assertBudget(QueryBudget.of(1, 20, 2 * 1024),
+                () -> memberRepository.search(byTeamAndAge));
+        assertThat(result).hasSize(20);
+
+        result = assertBudget(QueryBudget.of(1, 20, 2 * 1024),
+                () -> memberJPARepository.searchMemberTeamDtoByParameter(byTeamAndAge));
+        assertThat(result).hasSize(20);
+    }
+
+    @Test
+    public void searchPage() {
+        // content 10 건 + count 1 건
+        MemberSearchCondition byAge = teamAndAge(null, 20, 39);
+        Page<MemberTeamDto> page = assertBudget(QueryBudget.of(2, 11, 4 * 1024),
+                () -> memberRepository.searchPageSimple(byAge, PageRequest.of(0, 10)));
+        assertThat(page.getTotalElements()).isEqualTo(200);
+
+        page = assertBudget(QueryBudget.of(2, 11, 4 * 1024),
+                () -> memberRepository.searchPageComplex(byAge, PageRequest.of(0, 10)));
+        assertThat(page.getTotalElements()).isEqualTo(200);
+
+        // 첫 페이지에서 페이지 크기보다 적게 조회되면 count 쿼리 생략
+        MemberSearchCondition byTeamAndAge = teamAndAge("Team1", 20, 39);
+        page = assertBudget(QueryBudget.of(1, 20, 2 * 1024),
+                () -> memberRepository.searchPageComplex(byTeamAndAge, PageRequest.of(0, 50)));
+        assertThat(page.getTotalElements()).isEqualTo(20);
+
+        Page<Member> members = assertBudget(QueryBudget.of(2, 11, 4 * 1024),
+                () -> memberRepository.findAll(PageRequest.of(0, 10)));
+        assertThat(members.getTotalElements()).isEqualTo(MEMBER_COUNT);
+    }
+
+    @Test
+    public void searchBatch() {
+        MemberSearchCondition byUsername = new MemberSearchCondition();
+        byUsername.setUsername("Member500");
+
+        // 1 + 10 (Team2, age 20 ~ 29 : 22) + 100 (age 90 이상)
+        List<List<MemberTeamDto>> result = assertBudget(QueryBudget.of(1, 111, 4 * 1024),
+                () -> memberRepository.searchBatch(List.of(
+                        byUsername,
+                        teamAndAge("Team2", 20, 29),
+                        teamAndAge(null, 90, null))));
+
+        assertThat(result).extracting(List::size).containsExactly(1, 10, 100);
+    }
+
+    private static MemberSearchCondition teamAndAge(String teamName, Integer ageGoe, Integer ageLoe) {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName(teamName);
+        condition.setAgeGoe(ageGoe);
+        condition.setAgeLoe(ageLoe);
+        return condition;
+    }
+
+    /**
+     * 한 번 실행하여 쿼리 플랜 캐시 / JIT 를 채운 뒤, 영속성 컨텍스트를 비우고 다시 실행한 결과를 예산과 비교
+     */
+    private <T> T assertBudget(QueryBudget budget, Supplier<T> call) {
+        call.get();
+        em.clear();
+        LOGS.clear();
+
+        long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        T result = call.get();
+        long allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        List<SqlStatementLog> statements = List.copyOf(LOGS);
+        String executed = statements.stream()
+                .map(s -> s.rowCount() + " rows : " + s.sql())
+                .collect(Collectors.joining("\n  ", "\n  ", ""));
+        long rows = statements.stream().mapToLong(s -> Math.max(s.rowCount(), 0)).sum();
+
+        assertThat(statements.size()).as("statements" + executed).isLessThanOrEqualTo(budget.statements());
+        assertThat(rows).as("rows" + executed).isLessThanOrEqualTo(budget.rows());
+        assertThat(allocated).as("allocated bytes").isLessThanOrEqualTo(budget.allocatedBytes());
+        for (String plan : budget.plans()) {
+            assertThat(statements)
+                    .as("plan using " + plan + executed)
+                    .anyMatch(s -> s.plan() != null && s.plan().toUpperCase().contains(plan));
+        }
+        return result;
+    }
+}
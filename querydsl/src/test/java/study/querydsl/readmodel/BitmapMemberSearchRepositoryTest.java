@@ -0,0 +1,84 @@
+package study.querydsl.readmodel;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "member.search.backend=bitmap")
+@Transactional
+class BitmapMemberSearchRepositoryTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    MemberBitmapIndex memberBitmapIndex;
+
+    @Autowired
+    BitmapMemberSearchRepository bitmapMemberSearchRepository;
+
+    /**
+     * 테스트 트랜잭션의 데이터는 커밋되지 않으므로 (변경 이벤트 없음) 같은 트랜잭션에서 인덱스를 다시 적재
+     */
+    @BeforeEach
+    public void setTestCase() {
+        Team teamA = new Team("TeamA");
+        em.persist(teamA);
+
+        em.persist(new Member("Member1", 10, teamA));
+        em.persist(new Member("Member2", 20));
+        em.persist(new Member("Member3", 30));
+        em.persist(new Member("Member4", 40, teamA));
+        em.flush();
+        em.clear();
+
+        memberBitmapIndex.reload();
+    }
+
+    @Test
+    public void membersWithoutTeam() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setAgeGoe(15);
+
+        assertThat(bitmapMemberSearchRepository.search(condition))
+                .extracting("username", "teamName")
+                .containsExactly(
+                        tuple("Member2", null),
+                        tuple("Member3", null),
+                        tuple("Member4", "TeamA"));
+
+        // 전체 건수(bitmap cardinality)와 페이지 내용이 같은 member 를 기준으로 함
+        Page<MemberTeamDto> page = bitmapMemberSearchRepository.searchPageComplex(condition, PageRequest.of(0, 2));
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting("username").containsExactly("Member2", "Member3");
+
+        page = bitmapMemberSearchRepository.searchPageSimple(condition, PageRequest.of(1, 2));
+        assertThat(page.getContent()).extracting("username").containsExactly("Member4");
+    }
+
+    @Test
+    public void batchWithoutTeam() {
+        MemberSearchCondition all = new MemberSearchCondition();
+        MemberSearchCondition teamA = new MemberSearchCondition();
+        teamA.setTeamName("TeamA");
+
+        List<List<MemberTeamDto>> result = bitmapMemberSearchRepository.searchBatch(List.of(all, teamA));
+
+        assertThat(result.get(0)).extracting("username").containsExactly("Member1", "Member2", "Member3", "Member4");
+        assertThat(result.get(1)).extracting("username").containsExactly("Member1", "Member4");
+    }
+}
@@ -0,0 +1,109 @@
+package study.querydsl.readmodel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+import study.querydsl.dataset.DatasetProperties;
+import study.querydsl.dataset.MemberDataset;
+import study.querydsl.dto.MemberSearchCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberBitmapIndexTest {
+
+    MemberDataset dataset;
+    MemberBitmapIndex index;
+    List<MemberDataset.MemberRow> rows;
+
+    @BeforeEach
+    public void setTestCase() {
+        DatasetProperties properties = new DatasetProperties();
+        properties.setMembers(20_000);
+        properties.setTeams(50);
+        properties.setNullTeamRatio(0.1);
+        dataset = new MemberDataset(properties);
+
+        index = new MemberBitmapIndex(null);
+        for (long teamId = 1; teamId <= dataset.teamCount(); teamId++) {
+            index.teamSaved(teamId, dataset.teamName(teamId));
+        }
+        rows = new ArrayList<>();
+        for (long id = 1; id <= dataset.memberCount(); id++) {
+            MemberDataset.MemberRow row = dataset.member(id);
+            index.memberSaved(new MemberReadModel.MemberChange(row.id(), row.username(), row.age(), row.teamId()));
+            rows.add(row);
+        }
+    }
+
+    @Test
+    public void matchMatchesFullScan() {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            MemberSearchCondition condition = new MemberSearchCondition();
+            if (random.nextBoolean()) {
+                condition.setTeamName(dataset.teamName(1 + random.nextInt(dataset.teamCount() + 1)));
+            }
+            if (random.nextBoolean()) {
+                condition.setAgeGoe(random.nextInt(60));
+            }
+            if (random.nextBoolean()) {
+                condition.setAgeLoe(random.nextInt(80));
+            }
+
+            RoaringBitmap matched = index.match(condition);
+
+            assertThat(matched.getLongCardinality()).isEqualTo(fullScan(condition).size());
+            assertThat(MemberBitmapIndex.page(matched, 0, Integer.MAX_VALUE)).isEqualTo(fullScan(condition));
+        }
+    }
+
+    @Test
+    public void page() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName(dataset.teamName(1));
+        condition.setAgeLoe(40);
+        List<Long> expected = fullScan(condition);
+
+        RoaringBitmap matched = index.match(condition);
+
+        assertThat(MemberBitmapIndex.page(matched, 20, 10)).isEqualTo(expected.subList(20, 30));
+        assertThat(MemberBitmapIndex.page(matched, expected.size(), 10)).isEmpty();
+    }
+
+    @Test
+    public void changes() {
+        long moved = rows.get(0).id();
+        long removed = rows.get(1).id();
+        index.memberSaved(new MemberReadModel.MemberChange(moved, "moved", 200, 2L));
+        index.memberRemoved(removed);
+        index.teamSaved(2L, "renamed");
+
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("renamed");
+        condition.setAgeGoe(200);
+        assertThat(MemberBitmapIndex.page(index.match(condition), 0, 10)).containsExactly(moved);
+
+        assertThat(index.match(new MemberSearchCondition()).contains((int) removed)).isFalse();
+        condition = new MemberSearchCondition();
+        condition.setTeamName(dataset.teamName(2));
+        assertThat(index.match(condition).isEmpty()).isTrue();
+
+        condition = new MemberSearchCondition();
+        condition.setUsername("moved");
+        assertThat(index.supports(condition)).isFalse();
+    }
+
+    private List<Long> fullScan(MemberSearchCondition condition) {
+        return rows.stream()
+                .filter(row -> condition.getTeamName() == null
+                        || (row.teamId() != null && condition.getTeamName().equals(dataset.teamName(row.teamId()))))
+                .filter(row -> condition.getAgeGoe() == null || row.age() >= condition.getAgeGoe())
+                .filter(row -> condition.getAgeLoe() == null || row.age() <= condition.getAgeLoe())
+                .map(MemberDataset.MemberRow::id)
+                .toList();
+    }
+}
@@ -0,0 +1,221 @@
+package study.querydsl.readmodel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import study.querydsl.dataset.DatasetProperties;
+import study.querydsl.dataset.MemberDataset;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class MemberColumnStoreTest {
+
+    MemberDataset dataset;
+    MemberColumnStore store;
+    List<MemberTeamDto> rows;
+
+    @BeforeEach
+    public void setTestCase() {
+        DatasetProperties properties = new DatasetProperties();
+        properties.setMembers(20_000);
+        properties.setTeams(50);
+        properties.setNullTeamRatio(0.1);
+        dataset = new MemberDataset(properties);
+
+        // team 이 먼저 등록되어 있으면 DB 를 조회하지 않음
+        store = new MemberColumnStore(null);
+        for (long teamId = 1; teamId <= dataset.teamCount(); teamId++) {
+            store.teamSaved(teamId, dataset.teamName(teamId));
+        }
+        rows = new ArrayList<>();
+        for (long id = 1; id <= dataset.memberCount(); id++) {
+            MemberDataset.MemberRow row = dataset.member(id);
+            store.memberSaved(new MemberReadModel.MemberChange(row.id(), row.username(), row.age(), row.teamId()));
+            rows.add(new MemberTeamDto(row.id(), row.username(), row.age(), row.teamId(),
+                    row.teamId() != null ? dataset.teamName(row.teamId()) : null));
+        }
+    }
+
+    @Test
+    public void searchMatchesFullScan() {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            MemberSearchCondition condition = randomCondition(random);
+            assertThat(store.search(condition)).isEqualTo(fullScan(condition));
+        }
+    }
+
+    @Test
+    public void searchPage() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName(dataset.teamName(1));
+        condition.setAgeGoe(30);
+        List<MemberTeamDto> expected = fullScan(condition);
+
+        Page<MemberTeamDto> page = store.search(condition, PageRequest.of(2, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(expected.size());
+        assertThat(page.getContent()).isEqualTo(expected.subList(20, 30));
+    }
+
+    @Test
+    public void pagesMatchFullScan() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            MemberSearchCondition condition = randomCondition(random);
+            List<MemberTeamDto> expected = fullScan(condition);
+            int pageSize = 1 + random.nextInt(50);
+            int pageNumber = random.nextInt(Math.max(1, expected.size() / pageSize + 2));
+
+            Page<MemberTeamDto> page = store.search(condition, PageRequest.of(pageNumber, pageSize));
+
+            int from = Math.min(pageNumber * pageSize, expected.size());
+            int to = Math.min(from + pageSize, expected.size());
+            assertThat(page.getTotalElements()).isEqualTo(expected.size());
+            assertThat(page.getContent()).isEqualTo(expected.subList(from, to));
+        }
+    }
+
+    @Test
+    public void compactsTombstones() {
+        // 절반을 다른 나이로 변경 (삭제 표시 후 추가) -> 삭제 표시가 25% 를 넘으면 compaction
+        List<MemberTeamDto> updated = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            MemberTeamDto row = rows.get(i);
+            if (i % 2 == 0) {
+                row = new MemberTeamDto(row.getMemberId(), row.getUsername(), row.getAge() + 100, row.getTeamId(), row.getTeamName());
+                store.memberSaved(new MemberReadModel.MemberChange(row.getMemberId(), row.getUsername(), row.getAge(), row.getTeamId()));
+            }
+            updated.add(row);
+        }
+        rows = updated;
+
+        assertThat(store.tombstoneCount()).isLessThan(rows.size() / 4);
+        assertThat(store.memberCount()).isEqualTo(rows.size());
+        Random random = new Random(11);
+        for (int i = 0; i < 200; i++) {
+            MemberSearchCondition condition = randomCondition(random);
+            assertThat(store.search(condition)).isEqualTo(fullScan(condition));
+        }
+    }
+
+    @Test
+    public void changes() {
+        MemberTeamDto moved = rows.get(0);
+        store.memberSaved(new MemberReadModel.MemberChange(moved.getMemberId(), "moved", 200, 2L));
+        store.memberRemoved(rows.get(1).getMemberId());
+        store.teamSaved(2L, "renamed");
+        // 나중에 커밋된 작은 id
+        store.memberRemoved(rows.get(2).getMemberId());
+        store.memberSaved(new MemberReadModel.MemberChange(rows.get(2).getMemberId(), "late", 200, null));
+
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setAgeGoe(200);
+        List<MemberTeamDto> result = store.search(condition);
+        assertThat(result).extracting("username").containsExactly("moved", "late");
+        assertThat(result.get(0).getTeamName()).isEqualTo("renamed");
+
+        condition = new MemberSearchCondition();
+        condition.setTeamName(dataset.teamName(2));
+        assertThat(store.search(condition)).isEmpty();
+
+        assertThat(store.memberCount()).isEqualTo(rows.size() - 1);
+        assertThat(store.search(new MemberSearchCondition()))
+                .extracting(MemberTeamDto::getMemberId)
+                .isSortedAccordingTo(Comparator.naturalOrder())
+                .doesNotContain(rows.get(1).getMemberId());
+    }
+
+    @Test
+    public void searchDuringReload() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:column_store_reload;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("create table team (team_id bigint primary key, team_name varchar(255))");
+        setup.execute("create table member (member_id bigint primary key, username varchar(255), age int, team_id bigint)");
+        setup.update("insert into team values (1, 'TeamA')");
+        setup.update("insert into member values (1, 'Member1', 10, 1), (2, 'Member2', 20, null)");
+
+        // member 를 읽기 직전에 멈춤
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JdbcTemplate blocking = new JdbcTemplate(dataSource) {
+            @Override
+            public void query(String sql, RowCallbackHandler rch) {
+                if (sql.startsWith("select member_id")) {
+                    reading.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.query(sql, rch);
+            }
+        };
+
+        MemberColumnStore reloading = new MemberColumnStore(blocking);
+        reloading.teamSaved(1L, "TeamA");
+        reloading.memberSaved(new MemberReadModel.MemberChange(1L, "Member1", 10, 1L));
+
+        CompletableFuture<Void> reload = CompletableFuture.runAsync(reloading::reload);
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 적재 중에도 기존 컬럼으로 바로 검색, 적재 중의 변경은 새 컬럼에도 반영
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertThat(reloading.search(new MemberSearchCondition())).extracting("username").containsExactly("Member1");
+            reloading.memberSaved(new MemberReadModel.MemberChange(3L, "Member3", 30, 1L));
+        });
+
+        release.countDown();
+        reload.get(5, TimeUnit.SECONDS);
+
+        assertThat(reloading.search(new MemberSearchCondition()))
+                .extracting("username").containsExactly("Member1", "Member2", "Member3");
+        MemberSearchCondition byTeam = new MemberSearchCondition();
+        byTeam.setTeamName("TeamA");
+        assertThat(reloading.search(byTeam)).extracting("username").containsExactly("Member1", "Member3");
+        setup.execute("drop all objects");
+    }
+
+    private MemberSearchCondition randomCondition(Random random) {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        if (random.nextInt(4) == 0) {
+            condition.setUsername(rows.get(random.nextInt(rows.size())).getUsername());
+        }
+        if (random.nextBoolean()) {
+            condition.setTeamName(dataset.teamName(1 + random.nextInt(dataset.teamCount() + 1)));
+        }
+        if (random.nextBoolean()) {
+            condition.setAgeGoe(random.nextInt(60));
+        }
+        if (random.nextBoolean()) {
+            condition.setAgeLoe(random.nextInt(80));
+        }
+        return condition;
+    }
+
+    private List<MemberTeamDto> fullScan(MemberSearchCondition condition) {
+        return rows.stream()
+                .filter(row -> condition.getUsername() == null || condition.getUsername().equals(row.getUsername()))
+                .filter(row -> condition.getTeamName() == null || condition.getTeamName().equals(row.getTeamName()))
+                .filter(row -> condition.getAgeGoe() == null || row.getAge() >= condition.getAgeGoe())
+                .filter(row -> condition.getAgeLoe() == null || row.getAge() <= condition.getAgeLoe())
+                .toList();
+    }
+}
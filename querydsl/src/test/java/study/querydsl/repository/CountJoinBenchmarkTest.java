@@ -0,0 +1,117 @@
+package study.querydsl.repository;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.querydsl.dataset.DatasetProperties;
+import study.querydsl.dataset.MemberDatasetGenerator;
+import study.querydsl.dto.MemberSearchCondition;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static study.querydsl.entity.QMember.member;
+import static study.querydsl.entity.QTeam.team;
+
+/**
+ * count 쿼리의 team join 유무에 따른 실행 시간 비교 (member 100만 건)
+ * 데이터는 커밋되므로 @Transactional 대신 끝난 후 삭제
+ * ./gradlew benchmark --tests "*CountJoinBenchmarkTest"
+ */
+@Tag("benchmark")
+@ActiveProfiles("bench")
+@SpringBootTest
+class CountJoinBenchmarkTest {
+
+    static final int MEMBER_COUNT = 1_000_000;
+    static final int ITERATIONS = 20;
+
+    @Autowired
+    MemberDatasetGenerator memberDatasetGenerator;
+
+    @Autowired
+    JPAQueryFactory jpaQueryFactory;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setTestCase() {
+        DatasetProperties properties = new DatasetProperties();
+        properties.setMembers(MEMBER_COUNT);
+        properties.setTeams(1_000);
+        properties.setNullTeamRatio(0.1);
+        memberDatasetGenerator.generate(properties);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("delete from member");
+        jdbcTemplate.update("delete from team");
+    }
+
+    @Test
+    public void countWithAndWithoutJoin() {
+        MemberSearchQueryBuilder queryBuilder = new MemberSearchQueryBuilder(jpaQueryFactory);
+
+        MemberSearchCondition ageOnly = new MemberSearchCondition();
+        ageOnly.setAgeGoe(20);
+        ageOnly.setAgeLoe(40);
+        long leftJoin = measure("age only, left join", () -> leftJoinCount(ageOnly));
+        long noJoin = measure("age only, no join", () -> queryBuilder.count(ageOnly).fetchOne());
+        assertThat(noJoin).isEqualTo(leftJoin);
+
+        MemberSearchCondition withTeam = new MemberSearchCondition();
+        withTeam.setTeamName("Team1");
+        withTeam.setAgeGoe(20);
+        leftJoin = measure("team + age, left join", () -> leftJoinCount(withTeam));
+        long innerJoin = measure("team + age, inner join", () -> queryBuilder.count(withTeam).fetchOne());
+        assertThat(innerJoin).isEqualTo(leftJoin);
+    }
+
+    // 변경 전 count 쿼리
+    private Long leftJoinCount(MemberSearchCondition condition) {
+        JPAQuery<Long> query = jpaQueryFactory
+                .select(member.count())
+                .from(member)
+                .leftJoin(member.team, team);
+        if (condition.getTeamName() != null) {
+            query.where(team.teamName.eq(condition.getTeamName()));
+        }
+        return query
+                .where(
+                        condition.getAgeGoe() != null ? member.age.goe(condition.getAgeGoe()) : null,
+                        condition.getAgeLoe() != null ? member.age.loe(condition.getAgeLoe()) : null)
+                .fetchOne();
+    }
+
+    private long measure(String label, Supplier<Long> count) {
+        long result = 0;
+        for (int i = 0; i < 3; i++) {
+            result = transactionTemplate.execute(status -> count.get());
+        }
+
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            transactionTemplate.execute(status -> count.get());
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("[%s] count=%d, p50=%.2f ms, max=%.2f ms%n",
+                label, result, nanos[ITERATIONS / 2] / 1_000_000.0, nanos[ITERATIONS - 1] / 1_000_000.0);
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+package study.querydsl.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.querydsl.dataset.DatasetProperties;
+import study.querydsl.dataset.MemberDatasetGenerator;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 깊은 페이지에서 offset 페이징 (count-query) vs deferred join 의 content 조회 시간 비교 (member 100만 건)
+ * 데이터는 커밋되므로 @Transactional 대신 끝난 후 삭제
+ * ./gradlew benchmark --tests "*DeferredJoinBenchmarkTest"
+ */
+@Tag("benchmark")
+@ActiveProfiles("bench")
+@SpringBootTest
+class DeferredJoinBenchmarkTest {
+
+    static final int MEMBER_COUNT = 1_000_000;
+    static final int ITERATIONS = 10;
+    static final int PAGE_SIZE = 20;
+
+    @Autowired
+    MemberDatasetGenerator memberDatasetGenerator;
+
+    @Autowired
+    JPAQueryFactory jpaQueryFactory;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setTestCase() {
+        DatasetProperties properties = new DatasetProperties();
+        properties.setMembers(MEMBER_COUNT);
+        properties.setTeams(1_000);
+        memberDatasetGenerator.generate(properties);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("delete from member");
+        jdbcTemplate.update("delete from team");
+    }
+
+    @Test
+    public void deepPages() {
+        MemberRepositoryCustomImpl offset = repository(MemberSearchProperties.Paging.COUNT_QUERY);
+        MemberRepositoryCustomImpl deferredJoin = repository(MemberSearchProperties.Paging.DEFERRED_JOIN);
+
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setAgeGoe(20);
+        for (int page : new int[]{0, 1_000, 10_000, 40_000}) {
+            PageRequest pageRequest = PageRequest.of(page, PAGE_SIZE, Sort.by("age"));
+            List<MemberTeamDto> expected = measure("offset, page " + page, offset, condition, pageRequest);
+            List<MemberTeamDto> actual = measure("deferred join, page " + page, deferredJoin, condition, pageRequest);
+            assertThat(actual).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private MemberRepositoryCustomImpl repository(MemberSearchProperties.Paging paging) {
+        MemberSearchProperties properties = new MemberSearchProperties();
+        properties.setPaging(paging);
+        return new MemberRepositoryCustomImpl(jpaQueryFactory, em, properties);
+    }
+
+    // count 쿼리는 두 방식이 같으므로 차이는 content 조회에서만 생김
+    private List<MemberTeamDto> measure(String label, MemberRepositoryCustomImpl repository,
+                                        MemberSearchCondition condition, PageRequest pageRequest) {
+        List<MemberTeamDto> result = null;
+        for (int i = 0; i < 2; i++) {
+            result = transactionTemplate.execute(status ->
+                    repository.searchPageSimple(condition, pageRequest).getContent());
+        }
+
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            transactionTemplate.execute(status -> repository.searchPageSimple(condition, pageRequest));
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("[%s] rows=%d, p50=%.2f ms, max=%.2f ms%n",
+                label, result.size(), nanos[ITERATIONS / 2] / 1_000_000.0, nanos[ITERATIONS - 1] / 1_000_000.0);
+        return result;
+    }
+}
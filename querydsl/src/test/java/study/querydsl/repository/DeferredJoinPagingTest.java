@@ -0,0 +1,76 @@
+package study.querydsl.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "member.search.paging=deferred-join")
+@Transactional
+class DeferredJoinPagingTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @BeforeEach
+    public void setTestCase() {
+        Team teamA = new Team("TeamA");
+        Team teamB = new Team("TeamB");
+        em.persist(teamA);
+        em.persist(teamB);
+        for (int i = 0; i < 10; i++) {
+            em.persist(new Member("Member" + i, 50 - i * 5, i % 2 == 0 ? teamA : teamB));
+        }
+        em.persist(new Member("MemberWithoutTeam", 100));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void pageKeepsRequestedOrder() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+
+        // id 순서와 반대인 age 오름차순이 유지되는지
+        Page<MemberTeamDto> page = memberRepository.searchPageComplex(condition,
+                PageRequest.of(1, 3, Sort.by("age")));
+        assertThat(page.getTotalElements()).isEqualTo(11);
+        assertThat(page.getContent()).extracting("age").containsExactly(15, 20, 25);
+        assertThat(page.getContent()).extracting("username").containsExactly("Member7", "Member6", "Member5");
+
+        // 마지막 페이지 : team 이 없는 member 도 포함 (left join)
+        page = memberRepository.searchPageSimple(condition, PageRequest.of(3, 3, Sort.by("age")));
+        assertThat(page.getContent()).extracting("username").containsExactly("Member0", "MemberWithoutTeam");
+        assertThat(page.getContent().get(1).getTeamId()).isNull();
+    }
+
+    @Test
+    public void teamNameCondition() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("TeamB");
+
+        Page<MemberTeamDto> page = memberRepository.searchPageComplex(condition,
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "memberId")));
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting("username").containsExactly("Member9", "Member7");
+        assertThat(page.getContent()).extracting("teamName").containsOnly("TeamB");
+
+        List<MemberTeamDto> beyond = memberRepository.searchPageComplex(condition, PageRequest.of(5, 2)).getContent();
+        assertThat(beyond).isEmpty();
+    }
+}
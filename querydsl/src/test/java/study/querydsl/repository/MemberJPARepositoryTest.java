@@ -2,24 +2,35 @@ package study.querydsl.repository;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import study.querydsl.dto.MemberSearchCondition;
 import study.querydsl.dto.MemberTeamDto;
 import study.querydsl.entity.Member;
 import study.querydsl.entity.Team;
+import study.querydsl.readmodel.MemberDataChangedEvent;
 import study.querydsl.repository.MemberJPARepository;
 
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static study.querydsl.entity.QMember.member;
 
 @SpringBootTest
 @Transactional
+@RecordApplicationEvents
 class MemberJPARepositoryTest {
 
     @Autowired
@@ -28,6 +39,15 @@ class MemberJPARepositoryTest {
     @Autowired
     MemberJPARepository memberJPARepository;
 
+    @PersistenceUnit
+    EntityManagerFactory emf;
+
+    @Autowired
+    ApplicationEvents events;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
     @BeforeEach
     public void setTestCase(){
         Team teamA = new Team("TeamA");
@@ -93,6 +113,96 @@ class MemberJPARepositoryTest {
         assertThat(result2).containsExactly(member1);
     }
 
+    @Test
+    public void queryDslEntitiesWritableInTransactionTest() {
+        List<Member> result = memberJPARepository.findAllQueryDsl();
+        assertThat(result).hasSize(4);
+
+        // 쓰기 트랜잭션에서 조회한 엔티티는 변경 감지 대상
+        Session session = em.unwrap(Session.class);
+        assertThat(result).noneMatch(session::isReadOnly);
+
+        Member member1 = memberJPARepository.findByUsernameQueryDsl("Member1").get(0);
+        member1.setAge(99);
+        em.flush();
+        em.clear();
+
+        assertThat(memberJPARepository.findByIdQueryDsl(member1.getId()))
+                .hasValueSatisfying(member -> assertThat(member.getAge()).isEqualTo(99));
+    }
+
+    @Test
+    public void readOnlyQueryDslTest() {
+        // 테스트 트랜잭션의 데이터는 새 트랜잭션에서 보이지 않으므로 별도로 커밋한 뒤 readOnly 트랜잭션에서 조회
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        write.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readOnly.setReadOnly(true);
+
+        Long memberId = write.execute(status -> {
+            Team team = new Team("ReadOnlyTeam");
+            em.persist(team);
+            Member readOnlyMember = new Member("ReadOnlyMember", 10, team);
+            em.persist(readOnlyMember);
+            return readOnlyMember.getId();
+        });
+        try {
+            // readOnly 트랜잭션에서 조회한 엔티티는 스냅샷이 없으므로 변경해도 update 되지 않음
+            readOnly.executeWithoutResult(status -> {
+                List<Member> result = memberJPARepository.findByUsernameQueryDsl("ReadOnlyMember");
+                assertThat(result).hasSize(1);
+
+                Session session = em.unwrap(Session.class);
+                assertThat(result).allMatch(session::isReadOnly);
+
+                result.get(0).setAge(99);
+                em.flush();
+            });
+
+            Integer age = write.execute(status -> em.find(Member.class, memberId).getAge());
+            assertThat(age).isEqualTo(10);
+        } finally {
+            write.executeWithoutResult(status -> {
+                Member readOnlyMember = em.find(Member.class, memberId);
+                em.remove(readOnlyMember);
+                em.remove(readOnlyMember.getTeam());
+            });
+        }
+    }
+
+    @Test
+    public void bulkUpdateTest() {
+        long count = memberJPARepository.bulkUpdate("age + 1",
+                query -> query.update(member).set(member.age, member.age.add(1)).where(member.age.goe(30)));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(events.stream(MemberDataChangedEvent.class)).hasSize(1);
+        assertThat(memberJPARepository.findByUsername("Member3"))
+                .extracting(Member::getAge).containsExactly(31);
+
+        // 변경된 row 가 없으면 이벤트를 발행하지 않음
+        memberJPARepository.bulkUpdate("no-op",
+                query -> query.update(member).set(member.age, 0).where(member.age.gt(100)));
+        assertThat(events.stream(MemberDataChangedEvent.class)).hasSize(1);
+    }
+
+    @Test
+    public void fetchPlanTest() {
+        List<Member> memberOnly = memberJPARepository.findAllQueryDsl(MemberFetchPlan.MEMBER_ONLY);
+        assertThat(memberOnly).hasSize(4).noneMatch(m -> emf.getPersistenceUnitUtil().isLoaded(m.getTeam()));
+        em.clear();
+
+        List<Member> withTeam = memberJPARepository.findAllQueryDsl(MemberFetchPlan.WITH_TEAM);
+        assertThat(withTeam).hasSize(4).allMatch(m -> emf.getPersistenceUnitUtil().isLoaded(m.getTeam()));
+        em.clear();
+
+        List<Member> byUsername = memberJPARepository.findByUsernameQueryDsl("Member3", MemberFetchPlan.WITH_TEAM);
+        assertThat(byUsername).hasSize(1);
+        assertThat(emf.getPersistenceUnitUtil().isLoaded(byUsername.get(0).getTeam())).isTrue();
+        assertThat(byUsername.get(0).getTeam().getTeamName()).isEqualTo("TeamB");
+    }
+
     @Test
     public void searchTest() {
         MemberSearchCondition condition = new MemberSearchCondition();
@@ -0,0 +1,106 @@
+package study.querydsl.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * R2DBC 검색이 JPA search 와 같은 결과를 내는지 조건 조합별로 비교
+ * R2DBC 커넥션은 테스트 트랜잭션의 데이터를 볼 수 없으므로 @Transactional 대신 커밋 후 끝난 후 삭제
+ */
+@SpringBootTest
+class MemberReactiveRepositoryTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberReactiveRepository memberReactiveRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setTestCase() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Team teamA = new Team("ReactiveTeamA");
+            Team teamB = new Team("ReactiveTeamB");
+            em.persist(teamA);
+            em.persist(teamB);
+            for (int i = 0; i < 30; i++) {
+                Team team = i % 5 == 0 ? null : (i % 2 == 0 ? teamA : teamB);
+                em.persist(new Member("ReactiveMember" + (i % 10), i * 3, team));
+            }
+        });
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("delete from member where username like 'ReactiveMember%'");
+        jdbcTemplate.update("delete from team where team_name like 'ReactiveTeam%'");
+    }
+
+    @Test
+    public void sameResultAsJpaSearch() {
+        List<MemberSearchCondition> conditions = conditionShapes();
+        for (MemberSearchCondition condition : conditions) {
+            List<MemberTeamDto> expected = memberRepository.search(condition);
+            List<MemberTeamDto> actual = memberReactiveRepository.search(condition).collectList().block();
+
+            assertThat(actual).as(condition.toString()).containsExactlyInAnyOrderElementsOf(expected);
+        }
+
+        // 조건이 모두 빠진 경우 (null / 빈 문자열) 는 전체 조회
+        assertThat(memberReactiveRepository.search(conditions.get(0)).collectList().block())
+                .filteredOn(dto -> dto.getUsername().startsWith("ReactiveMember"))
+                .hasSize(30);
+    }
+
+    /**
+     * username / teamName : 없음, 빈 문자열, 있는 값, 없는 값
+     * ageGoe / ageLoe : 없음, 값
+     */
+    private List<MemberSearchCondition> conditionShapes() {
+        List<MemberSearchCondition> conditions = new ArrayList<>();
+        List<String> usernames = Arrays.asList(null, "", "ReactiveMember3", "nobody");
+        List<String> teamNames = Arrays.asList(null, "", "ReactiveTeamA", "nobody");
+        List<Integer> ageGoes = Arrays.asList(null, 15);
+        List<Integer> ageLoes = Arrays.asList(null, 60);
+        for (String username : usernames) {
+            for (String teamName : teamNames) {
+                for (Integer ageGoe : ageGoes) {
+                    for (Integer ageLoe : ageLoes) {
+                        MemberSearchCondition condition = new MemberSearchCondition();
+                        condition.setUsername(username);
+                        condition.setTeamName(teamName);
+                        condition.setAgeGoe(ageGoe);
+                        condition.setAgeLoe(ageLoe);
+                        conditions.add(condition);
+                    }
+                }
+            }
+        }
+        return conditions;
+    }
+}
@@ -1,18 +1,25 @@
 package study.querydsl.repository;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 import study.querydsl.dto.MemberSearchCondition;
 import study.querydsl.dto.MemberTeamDto;
 import study.querydsl.entity.Member;
 import study.querydsl.entity.Team;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +36,9 @@ class MemberRepositoryTest {
     @Autowired
     MemberRepository memberRepository;
 
+    @PersistenceUnit
+    EntityManagerFactory emf;
+
     @BeforeEach
     public void setTestCase(){
         Team teamA = new Team("TeamA");
@@ -116,4 +126,89 @@ class MemberRepositoryTest {
         assertThat(result.getContent()).extracting("username").containsExactly("Member1", "Member2", "Member3");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void searchPageSortTest() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+
+        PageRequest pageRequest = PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "age"));
+        Page<MemberTeamDto> result = memberRepository.searchPageComplex(condition, pageRequest);
+        assertThat(result.getContent()).extracting("username").containsExactly("Member4", "Member3", "Member2");
+
+        // 정렬 값이 같으면 member id 순
+        pageRequest = PageRequest.of(1, 2, Sort.by("teamId"));
+        result = memberRepository.searchPageSimple(condition, pageRequest);
+        assertThat(result.getContent()).extracting("username").containsExactly("Member3", "Member4");
+
+        assertThrows(UnsupportedSortException.class,
+                () -> memberRepository.searchPageComplex(condition, PageRequest.of(0, 3, Sort.by("teamName"))));
+    }
+
+    @Test
+    public void searchBatchTest() {
+        MemberSearchCondition teamA = new MemberSearchCondition();
+        teamA.setTeamName("TeamA");
+        MemberSearchCondition ageGoe30 = new MemberSearchCondition();
+        ageGoe30.setAgeGoe(30);
+        MemberSearchCondition none = new MemberSearchCondition();
+        none.setUsername("Member1");
+        none.setTeamName("TeamB");
+
+        List<List<MemberTeamDto>> result = memberRepository.searchBatch(List.of(teamA, ageGoe30, none));
+
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0)).extracting("username").containsExactlyInAnyOrder("Member1", "Member2");
+        assertThat(result.get(1)).extracting("username").containsExactlyInAnyOrder("Member3", "Member4");
+        assertThat(result.get(1)).extracting("teamName").containsOnly("TeamB");
+        assertThat(result.get(2)).isEmpty();
+    }
+
+    @Test
+    public void searchBatchSingleStatementTest() {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<MemberSearchCondition> conditions = new ArrayList<>();
+        for (String teamName : List.of("TeamA", "TeamB", "TeamA")) {
+            MemberSearchCondition byTeam = new MemberSearchCondition();
+            byTeam.setTeamName(teamName);
+            conditions.add(byTeam);
+        }
+        MemberSearchCondition ageGoe30 = new MemberSearchCondition();
+        ageGoe30.setAgeGoe(30);
+        conditions.add(1, ageGoe30);
+
+        List<List<MemberTeamDto>> result = memberRepository.searchBatch(conditions);
+        List<MemberSearchCondition> reversed = new ArrayList<>(conditions);
+        Collections.reverse(reversed);
+        List<List<MemberTeamDto>> reversedResult = memberRepository.searchBatch(reversed);
+
+        // 결과는 요청한 조건 순서대로
+        assertThat(result.get(0)).extracting("username").containsExactlyInAnyOrder("Member1", "Member2");
+        assertThat(result.get(1)).extracting("username").containsExactlyInAnyOrder("Member3", "Member4");
+        assertThat(result.get(2)).extracting("username").containsExactlyInAnyOrder("Member3", "Member4");
+        assertThat(result.get(3)).extracting("username").containsExactlyInAnyOrder("Member1", "Member2");
+        List<List<MemberTeamDto>> expectedReversed = new ArrayList<>(result);
+        Collections.reverse(expectedReversed);
+        assertThat(reversedResult).isEqualTo(expectedReversed);
+
+        // batch 당 statement 하나, 조건 값 / 순서와 관계없이 HQL 은 (2 의 거듭제곱으로 채운) branch 수로만 정해짐
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getQueries()).hasSize(1);
+
+        // 3 개도 4 개로 채우므로 같은 HQL
+        List<List<MemberTeamDto>> three = memberRepository.searchBatch(conditions.subList(0, 3));
+        assertThat(three).isEqualTo(result.subList(0, 3));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getQueries()).hasSize(1);
+    }
+
+    @Test
+    public void entityGraphTest() {
+        List<Member> memberOnly = memberRepository.findByUsername("Member1", MemberFetchPlan.MEMBER_ONLY);
+        assertThat(emf.getPersistenceUnitUtil().isLoaded(memberOnly.get(0).getTeam())).isFalse();
+        em.clear();
+
+        List<Member> withTeam = memberRepository.findByUsername("Member1", MemberFetchPlan.WITH_TEAM);
+        assertThat(emf.getPersistenceUnitUtil().isLoaded(withTeam.get(0).getTeam())).isTrue();
+    }
+}
@@ -0,0 +1,132 @@
+package study.querydsl.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import study.querydsl.dataset.DatasetProperties;
+import study.querydsl.dataset.MemberDatasetGenerator;
+import study.querydsl.dto.MemberSearchCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적은 수의 요청 스레드 (작은 Tomcat 풀) 에서 동시 검색 요청을 처리할 때 blocking (JPA) vs R2DBC 처리량 비교
+ * - blocking : THREADS 개 스레드가 요청을 하나씩 처리
+ * - reactive : 요청 스레드 없이 CONCURRENCY 개의 검색을 동시에 구독
+ * 컨트롤러 / 직렬화 비용은 포함하지 않으므로 /reactive/members 의 실제 부하 테스트는 loadtest-mix-reactive.txt 사용
+ * 데이터는 커밋되므로 @Transactional 대신 끝난 후 삭제
+ * ./gradlew benchmark --tests "*ReactiveSearchBenchmarkTest"
+ */
+@Tag("benchmark")
+@ActiveProfiles("bench")
+@SpringBootTest
+class ReactiveSearchBenchmarkTest {
+
+    static final int MEMBER_COUNT = 100_000;
+    static final int THREADS = 8;
+    static final int CONCURRENCY = 200;
+    static final int ROUNDS = 5;
+
+    @Autowired
+    MemberDatasetGenerator memberDatasetGenerator;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberReactiveRepository memberReactiveRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setTestCase() {
+        DatasetProperties properties = new DatasetProperties();
+        properties.setMembers(MEMBER_COUNT);
+        properties.setTeams(100);
+        memberDatasetGenerator.generate(properties);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("delete from member");
+        jdbcTemplate.update("delete from team");
+    }
+
+    @Test
+    public void blockingVsReactive() throws Exception {
+        List<MemberSearchCondition> conditions = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            MemberSearchCondition condition = new MemberSearchCondition();
+            condition.setTeamName("Team" + (i % 100));
+            condition.setAgeGoe(20);
+            condition.setAgeLoe(40);
+            conditions.add(condition);
+        }
+
+        long blockingRows = 0;
+        long reactiveRows = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            // 첫 round 는 warm-up
+            blockingRows = measure("blocking", round, () -> blocking(conditions));
+            reactiveRows = measure("reactive", round, () -> reactive(conditions));
+        }
+        assertThat(reactiveRows).isEqualTo(blockingRows);
+    }
+
+    private long blocking(List<MemberSearchCondition> conditions) throws Exception {
+        ExecutorService requestThreads = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (MemberSearchCondition condition : conditions) {
+                results.add(requestThreads.submit(() -> transactionTemplate.execute(status -> memberRepository.search(condition).size())));
+            }
+            long rows = 0;
+            for (Future<Integer> result : results) {
+                rows += result.get();
+            }
+            return rows;
+        } finally {
+            requestThreads.shutdown();
+        }
+    }
+
+    private long reactive(List<MemberSearchCondition> conditions) {
+        Long rows = Flux.fromIterable(conditions)
+                .flatMap(condition -> memberReactiveRepository.search(condition).count(), CONCURRENCY)
+                .reduce(0L, Long::sum)
+                .block();
+        return rows != null ? rows : 0;
+    }
+
+    interface Run {
+        long run() throws Exception;
+    }
+
+    private long measure(String label, int round, Run run) throws Exception {
+        long start = System.nanoTime();
+        long rows = run.run();
+        long elapsed = System.nanoTime() - start;
+        if (round > 0) {
+            System.out.printf("[%s] round=%d, %d searches, rows=%d, %.2f ms (%.1f searches/s)%n",
+                    label, round, CONCURRENCY, rows, elapsed / 1_000_000.0, CONCURRENCY / (elapsed / 1_000_000_000.0));
+        }
+        return rows;
+    }
+}
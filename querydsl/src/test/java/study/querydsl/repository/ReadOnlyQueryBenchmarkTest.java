@@ -0,0 +1,111 @@
+package study.querydsl.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static study.querydsl.entity.QMember.member;
+
+/**
+ * 쓰기 트랜잭션 vs readOnly 트랜잭션에서 ReadOnlyJPAQueryFactory 로 조회했을 때의 heap 사용량 / flush 시간 비교
+ * ./gradlew benchmark --tests "*ReadOnlyQueryBenchmarkTest"
+ */
+@Tag("benchmark")
+@ActiveProfiles("bench")
+@SpringBootTest
+@Transactional
+class ReadOnlyQueryBenchmarkTest {
+
+    static final int MEMBER_COUNT = 100_000;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    ReadOnlyJPAQueryFactory readOnlyQueryFactory;
+
+    @BeforeEach
+    public void setTestCase() {
+        Team[] teams = new Team[10];
+        for (int i = 0; i < teams.length; i++) {
+            teams[i] = new Team("Team" + i);
+            em.persist(teams[i]);
+        }
+
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            em.persist(new Member("Member" + i, i % 100, teams[i % teams.length]));
+            if (i % 10_000 == 0) {
+                em.flush();
+                em.clear();
+                for (int t = 0; t < teams.length; t++) {
+                    teams[t] = em.getReference(Team.class, teams[t].getId());
+                }
+            }
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    record Measurement(long retainedBytes, long flushNanos) {
+    }
+
+    @Test
+    public void managedVsReadOnly() {
+        Measurement managed = measure("managed", false);
+        Measurement readOnly = measure("read-only", true);
+
+        // 스냅샷이 없으므로 heap 을 덜 쓰고, flush 시 dirty checking 할 엔티티가 없음
+        assertThat(readOnly.retainedBytes()).isLessThan(managed.retainedBytes());
+        assertThat(readOnly.flushNanos()).isLessThan(managed.flushNanos());
+    }
+
+    /**
+     * @param readOnly 테스트 트랜잭션을 readOnly 로 표시하여 ReadOnlyJPAQueryFactory 가 read-only 힌트를 적용하도록 함
+     */
+    private Measurement measure(String label, boolean readOnly) {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        try {
+            // warm-up
+            readOnlyQueryFactory.selectFrom(member).fetch();
+            em.flush();
+            em.clear();
+
+            long heapBefore = usedHeap();
+            List<Member> members = readOnlyQueryFactory.selectFrom(member).fetch();
+            long heapAfter = usedHeap();
+
+            long start = System.nanoTime();
+            em.flush();
+            long flushNanos = System.nanoTime() - start;
+
+            assertThat(members).hasSize(MEMBER_COUNT);
+            System.out.printf("[%s] members=%d, retained heap=%d KB, flush=%.2f ms%n",
+                    label, members.size(), (heapAfter - heapBefore) / 1024, flushNanos / 1_000_000.0);
+
+            em.clear();
+            return new Measurement(heapAfter - heapBefore, flushNanos);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,92 @@
+package study.querydsl.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "member.search.paging=window-count")
+@Transactional
+class WindowCountPagingTest {
+
+    @Autowired
+    EntityManager em;
+
+    @PersistenceUnit
+    EntityManagerFactory emf;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    Statistics statistics;
+
+    @BeforeEach
+    public void setTestCase() {
+        Team teamA = new Team("TeamA");
+        Team teamB = new Team("TeamB");
+        em.persist(teamA);
+        em.persist(teamB);
+        for (int i = 0; i < 10; i++) {
+            em.persist(new Member("Member" + i, i * 10, i % 2 == 0 ? teamA : teamB));
+        }
+        em.persist(new Member("MemberWithoutTeam", 100));
+        em.flush();
+        em.clear();
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void contentAndTotalInOneStatement() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setAgeGoe(20);
+
+        Page<MemberTeamDto> page = memberRepository.searchPageComplex(condition,
+                PageRequest.of(1, 3, Sort.by(Sort.Direction.DESC, "age")));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(page.getTotalElements()).isEqualTo(9);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(page.getContent()).extracting("age").containsExactly(70, 60, 50);
+
+        // teamName 조건 (inner join) 도 join 후의 건수
+        condition.setTeamName("TeamA");
+        page = memberRepository.searchPageSimple(condition, PageRequest.of(0, 2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.getContent()).extracting("teamName").containsOnly("TeamA");
+    }
+
+    @Test
+    public void emptyPage() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+
+        // offset 이 전체 건수를 넘으면 count 쿼리로 전체 건수 조회
+        Page<MemberTeamDto> page = memberRepository.searchPageComplex(condition, PageRequest.of(5, 10));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(11);
+
+        // 첫 페이지가 비어 있으면 count 쿼리 없이 0
+        condition.setUsername("Nobody");
+        page = memberRepository.searchPageComplex(condition, PageRequest.of(0, 10));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(page.getTotalElements()).isZero();
+    }
+}
@@ -0,0 +1,139 @@
+package study.querydsl.shard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+import study.querydsl.repository.MemberSort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * in-memory H2 3개를 shard 로 사용
+ */
+class ShardedMemberRepositoryTest {
+
+    ShardedMemberRepository shardedMemberRepository;
+    List<Member> members = new ArrayList<>();
+
+    @BeforeEach
+    public void setTestCase() {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setShards(3);
+        properties.setUrl("jdbc:h2:mem:sharded-test{index};DB_CLOSE_DELAY=-1");
+
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < properties.getShards(); i++) {
+            shards.add(Shard.create(i, properties));
+        }
+        shardedMemberRepository = new ShardedMemberRepository(shards);
+
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            teams.add(shardedMemberRepository.saveTeam(new Team("Team" + i)));
+        }
+        for (int i = 0; i < 60; i++) {
+            Member member = i % 10 == 0
+                    ? new Member("Member" + i, i)
+                    : new Member("Member" + i, i, teams.get(i % teams.size()));
+            members.add(shardedMemberRepository.save(member));
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        shardedMemberRepository.close();
+    }
+
+    @Test
+    public void distributeAndRoute() {
+        Set<Integer> usedShards = new HashSet<>();
+        for (Member member : members) {
+            usedShards.add(Shard.indexOfMemberId(member.getId()));
+
+            Optional<Member> findMember = shardedMemberRepository.findById(member.getId());
+            assertThat(findMember).isPresent();
+            assertThat(findMember.get().getUsername()).isEqualTo(member.getUsername());
+            if (member.getTeam() != null) {
+                assertThat(findMember.get().getTeam().getTeamName()).isEqualTo(member.getTeam().getTeamName());
+            }
+        }
+        assertThat(usedShards).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    public void scatterGatherSearch() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("Team1");
+        condition.setAgeLoe(40);
+
+        List<MemberTeamDto> result = shardedMemberRepository.search(condition);
+        assertThat(result).extracting("username")
+                .containsExactlyInAnyOrder("Member1", "Member7", "Member13", "Member19", "Member25", "Member31", "Member37");
+        assertThat(result).isSortedAccordingTo((a, b) -> a.getMemberId().compareTo(b.getMemberId()));
+    }
+
+    @Test
+    public void scatterGatherPage() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        List<MemberTeamDto> all = shardedMemberRepository.search(condition);
+        assertThat(all).hasSize(60);
+
+        Page<MemberTeamDto> page = shardedMemberRepository.searchPageComplex(condition, PageRequest.of(2, 7));
+        assertThat(page.getTotalElements()).isEqualTo(60);
+        assertThat(page.getContent()).containsExactlyElementsOf(all.subList(14, 21));
+    }
+
+    @Test
+    public void scatterGatherSortedPage() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        Sort sort = Sort.by(Sort.Order.desc("age"));
+        List<MemberTeamDto> all = new ArrayList<>(shardedMemberRepository.search(condition));
+        all.sort(MemberSort.comparator(sort));
+
+        // shard 순서로 이어 붙이지 않고 요청한 정렬 순으로 병합
+        Page<MemberTeamDto> page = shardedMemberRepository.searchPageComplex(condition, PageRequest.of(1, 7, sort));
+        assertThat(page.getContent()).containsExactlyElementsOf(all.subList(7, 14));
+        assertThat(page.getContent()).extracting(MemberTeamDto::getAge).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    public void copyFromPrimary() throws Exception {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setUrl("jdbc:h2:mem:sharded-source{index};DB_CLOSE_DELAY=-1");
+        try (Shard source = Shard.create(0, properties)) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(source.getDataSource());
+            jdbcTemplate.update("insert into team (team_id, team_name) values (1, 'SourceTeamA'), (2, 'SourceTeamB')");
+            for (int i = 1; i <= 30; i++) {
+                jdbcTemplate.update("insert into member (member_id, username, age, team_id) values (?, ?, ?, ?)",
+                        i, "Source" + i, i, i % 3 == 0 ? null : i % 2 + 1);
+            }
+
+            assertThat(shardedMemberRepository.copyFrom(jdbcTemplate)).isEqualTo(30);
+        }
+
+        assertThat(shardedMemberRepository.memberCount()).isEqualTo(90);
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("SourceTeamA");
+        List<MemberTeamDto> result = shardedMemberRepository.search(condition);
+        assertThat(result).extracting("username")
+                .containsExactlyInAnyOrder("Source2", "Source4", "Source8", "Source10", "Source14",
+                        "Source16", "Source20", "Source22", "Source26", "Source28");
+        // 복사된 member 도 id 로 소유 shard 를 찾을 수 있음
+        assertThat(shardedMemberRepository.findById(result.get(0).getMemberId())).isPresent();
+    }
+}
@@ -0,0 +1,117 @@
+package study.querydsl.sql;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.sql.SQLQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+import study.querydsl.repository.MemberRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "member.search.backend=sql")
+@Transactional
+class SqlMemberSearchRepositoryTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    SQLQueryFactory sqlQueryFactory;
+
+    @Autowired
+    SqlMemberSearchRepository sqlMemberSearchRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @BeforeEach
+    public void setTestCase() {
+        Team teamA = new Team("TeamA");
+        Team teamB = new Team("TeamB");
+        em.persist(teamA);
+        em.persist(teamB);
+
+        em.persist(new Member("Member1", 10, teamA));
+        em.persist(new Member("Member2", 20, teamA));
+        em.persist(new Member("Member3", 30, teamB));
+        em.persist(new Member("Member4", 40, teamB));
+        em.persist(new Member("Member5", 50));
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void schemaMatchesQueryTypes() {
+        // SMember / STeam 의 모든 컬럼이 ddl 과 일치하는지
+        List<Tuple> members = sqlQueryFactory.select(SMember.member.all()).from(SMember.member).fetch();
+        List<Tuple> teams = sqlQueryFactory.select(STeam.team.all()).from(STeam.team).fetch();
+
+        assertThat(members).hasSize(5);
+        assertThat(teams).hasSize(2);
+    }
+
+    @Test
+    public void searchMatchesJpa() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        assertThat(sqlMemberSearchRepository.search(condition))
+                .containsExactlyInAnyOrderElementsOf(memberRepository.search(condition));
+
+        condition.setTeamName("TeamB");
+        condition.setAgeGoe(35);
+        assertThat(sqlMemberSearchRepository.search(condition))
+                .extracting("username").containsExactly("Member4");
+    }
+
+    @Test
+    public void searchPageMatchesJpa() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        PageRequest pageRequest = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "age"));
+
+        Page<MemberTeamDto> sql = sqlMemberSearchRepository.searchPageComplex(condition, pageRequest);
+        Page<MemberTeamDto> jpa = memberRepository.searchPageComplex(condition, pageRequest);
+
+        assertThat(sql.getTotalElements()).isEqualTo(5);
+        assertThat(sql.getContent()).containsExactlyElementsOf(jpa.getContent());
+        assertThat(sql.getContent()).extracting("username").containsExactly("Member3", "Member2");
+
+        condition.setTeamName("TeamA");
+        sql = sqlMemberSearchRepository.searchPageSimple(condition, PageRequest.of(0, 1));
+        assertThat(sql.getTotalElements()).isEqualTo(2);
+        assertThat(sql.getContent()).extracting("teamName").containsExactly("TeamA");
+    }
+
+    @Test
+    public void searchBatchMatchesJpa() {
+        MemberSearchCondition teamA = new MemberSearchCondition();
+        teamA.setTeamName("TeamA");
+        MemberSearchCondition withoutTeam = new MemberSearchCondition();
+        withoutTeam.setAgeGoe(45);
+        MemberSearchCondition none = new MemberSearchCondition();
+        none.setUsername("Member9");
+
+        List<MemberSearchCondition> conditions = List.of(teamA, withoutTeam, none);
+        List<List<MemberTeamDto>> sql = sqlMemberSearchRepository.searchBatch(conditions);
+        List<List<MemberTeamDto>> jpa = memberRepository.searchBatch(conditions);
+
+        assertThat(sql).hasSize(3);
+        for (int i = 0; i < conditions.size(); i++) {
+            assertThat(sql.get(i)).containsExactlyInAnyOrderElementsOf(jpa.get(i));
+        }
+        assertThat(sql.get(1)).extracting("teamId").containsOnlyNulls();
+        assertThat(sql.get(2)).isEmpty();
+    }
+}
@@ -0,0 +1,121 @@
+package study.querydsl.sql;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.querydsl.dataset.DatasetProperties;
+import study.querydsl.dataset.MemberDatasetGenerator;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.repository.MemberRepository;
+import study.querydsl.repository.MemberRepositoryCustom;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DTO 검색의 JPA (JPQL -> Hibernate) 경로와 querydsl-sql 경로의 CPU 시간 / 지연 비교 (member 10만 건)
+ * 데이터는 커밋되므로 @Transactional 대신 끝난 후 삭제
+ * ./gradlew benchmark --tests "*SqlSearchBenchmarkTest"
+ */
+@Tag("benchmark")
+@ActiveProfiles("bench")
+@SpringBootTest(properties = "member.search.backend=sql")
+class SqlSearchBenchmarkTest {
+
+    static final int MEMBER_COUNT = 100_000;
+    static final int WARMUP = 200;
+    static final int ITERATIONS = 1_000;
+
+    static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    MemberDatasetGenerator memberDatasetGenerator;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    SqlMemberSearchRepository sqlMemberSearchRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setTestCase() {
+        DatasetProperties properties = new DatasetProperties();
+        properties.setMembers(MEMBER_COUNT);
+        properties.setTeams(100);
+        memberDatasetGenerator.generate(properties);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("delete from member");
+        jdbcTemplate.update("delete from team");
+    }
+
+    @Test
+    public void jpaVsSql() {
+        // 결과가 작은 조회 : 쿼리 해석 / 변환 비용의 비중이 큼
+        MemberSearchCondition teamAndAge = new MemberSearchCondition();
+        teamAndAge.setTeamName("Team50");
+        teamAndAge.setAgeGoe(30);
+        teamAndAge.setAgeLoe(31);
+        compare("search, team + age", repository -> repository.search(teamAndAge).size());
+
+        // 한 페이지 (content + count)
+        MemberSearchCondition ageRange = new MemberSearchCondition();
+        ageRange.setAgeGoe(20);
+        ageRange.setAgeLoe(40);
+        compare("searchPageComplex, age, 20 rows",
+                repository -> repository.searchPageComplex(ageRange, PageRequest.of(10, 20)).getNumberOfElements());
+
+        // 결과가 큰 조회 : row 당 변환 비용의 비중이 큼
+        MemberSearchCondition team10 = new MemberSearchCondition();
+        team10.setTeamName("Team10");
+        compare("search, one team", repository -> repository.search(team10).size());
+    }
+
+    private void compare(String label, Function<MemberRepositoryCustom, Integer> search) {
+        int jpa = measure(label + " / jpa", memberRepository, search);
+        int sql = measure(label + " / sql", sqlMemberSearchRepository, search);
+        assertThat(sql).isEqualTo(jpa);
+    }
+
+    private int measure(String label, MemberRepositoryCustom repository, Function<MemberRepositoryCustom, Integer> search) {
+        int result = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            result = transactionTemplate.execute(status -> search.apply(repository));
+        }
+
+        long[] nanos = new long[ITERATIONS];
+        long cpuStart = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            transactionTemplate.execute(status -> search.apply(repository));
+            nanos[i] = System.nanoTime() - start;
+        }
+        long cpu = THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuStart;
+
+        Arrays.sort(nanos);
+        System.out.printf("[%s] rows=%d, cpu/op=%.3f ms, p50=%.3f ms, p99=%.3f ms, max=%.3f ms%n",
+                label, result, cpu / 1_000_000.0 / ITERATIONS,
+                nanos[ITERATIONS / 2] / 1_000_000.0, nanos[ITERATIONS * 99 / 100] / 1_000_000.0,
+                nanos[ITERATIONS - 1] / 1_000_000.0);
+        return result;
+    }
+}
@@ -0,0 +1,97 @@
+package study.querydsl.sqllog;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.DataSourceConfig;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+import study.querydsl.repository.MemberJPARepository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "slow-query-log.enabled=true",
+        "slow-query-log.threshold=0ms",
+        "slow-query-log.explain=true"
+})
+@Transactional
+class SlowQueryLogTest {
+
+    static final List<SqlStatementLog> LOGS = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class CaptureConfig {
+        @Bean
+        SqlStatementListener captureListener() {
+            return LOGS::add;
+        }
+    }
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    MemberJPARepository memberJPARepository;
+
+    @BeforeEach
+    public void setTestCase() {
+        Team teamA = new Team("TeamA");
+        em.persist(teamA);
+        em.persist(new Member("Member1", 10, teamA));
+        em.persist(new Member("Member2", 20, teamA));
+        em.flush();
+        em.clear();
+        LOGS.clear();
+    }
+
+    @Test
+    public void logStatementWithParametersAndPlan() {
+        List<Member> result = memberJPARepository.findByUsername("Member1");
+        assertThat(result).hasSize(1);
+
+        assertThat(LOGS).hasSize(1);
+        SqlStatementLog statementLog = LOGS.get(0);
+        assertThat(statementLog.sql()).containsIgnoringCase("from member");
+        assertThat(statementLog.parameters()).containsExactly("Member1");
+        assertThat(statementLog.rowCount()).isEqualTo(1);
+        assertThat(statementLog.origin()).isEqualTo("MemberJPARepository.findByUsername");
+        assertThat(statementLog.plan()).containsIgnoringCase("MEMBER");
+    }
+
+    @Test
+    public void closePoolThroughWrapper() {
+        AtomicReference<HikariDataSource> pool = new AtomicReference<>();
+        new ApplicationContextRunner()
+                .withUserConfiguration(DataSourceConfig.class, SlowQueryLogConfig.class)
+                .withBean(SlowQueryLogProperties.class)
+                .withPropertyValues(
+                        "slow-query-log.enabled=true",
+                        "spring.datasource.url=jdbc:h2:mem:slow_query_log_close")
+                .run(context -> {
+                    DataSource dataSource = context.getBean(DataSource.class);
+                    assertThat(dataSource).isInstanceOf(SlowQueryLogDataSource.class);
+                    try (Connection connection = dataSource.getConnection()) {
+                        assertThat(connection.isValid(1)).isTrue();
+                    }
+                    pool.set(dataSource.unwrap(HikariDataSource.class));
+                    assertThat(pool.get().isClosed()).isFalse();
+                });
+
+        // 컨텍스트가 닫히면 감싼 SlowQueryLogDataSource 를 거쳐 Hikari 풀도 닫힘
+        assertThat(pool.get().isClosed()).isTrue();
+    }
+}
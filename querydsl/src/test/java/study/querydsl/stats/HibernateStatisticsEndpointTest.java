@@ -0,0 +1,71 @@
+package study.querydsl.stats;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class HibernateStatisticsEndpointTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    EntityManagerFactory emf;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    HibernateStatisticsEndpoint hibernateStatisticsEndpoint;
+
+    @BeforeEach
+    public void setTestCase() {
+        Team teamA = new Team("TeamA");
+        em.persist(teamA);
+        em.persist(new Member("Member1", 10, teamA));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void readOnlyByDefault() throws Exception {
+        assertThat(hibernateStatisticsEndpoint).isNotInstanceOf(ResettableHibernateStatisticsEndpoint.class);
+
+        mockMvc.perform(get("/actuator/hibernate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled").value(true));
+        mockMvc.perform(delete("/actuator/hibernate"))
+                .andExpect(status().isMethodNotAllowed());
+
+        assertThat((Long) hibernateStatisticsEndpoint.statistics().get("entityInsertCount")).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    public void resetWhenEnabled() {
+        ResettableHibernateStatisticsEndpoint endpoint = new ResettableHibernateStatisticsEndpoint(emf);
+        em.find(Member.class, em.createQuery("select m.id from Member m", Long.class).getSingleResult());
+        assertThat((Long) endpoint.statistics().get("queryExecutionCount")).isPositive();
+
+        endpoint.reset();
+
+        assertThat(endpoint.statistics().get("queryExecutionCount")).isEqualTo(0L);
+        assertThat(endpoint.statistics().get("entityInsertCount")).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,60 @@
+package study.querydsl.stats;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "hibernate-statistics.response-header=true")
+@AutoConfigureMockMvc
+@Transactional
+class SessionMetricsTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    HibernateStatisticsEndpoint hibernateStatisticsEndpoint;
+
+    @BeforeEach
+    public void setTestCase() {
+        Team teamA = new Team("TeamA");
+        em.persist(teamA);
+        for (int i = 0; i < 5; i++) {
+            em.persist(new Member("Member" + i, i, teamA));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void sessionMetricsHeader() throws Exception {
+        MvcResult result = mockMvc.perform(get("/v2/members").param("size", "2"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // content + count 쿼리
+        String header = result.getResponse().getHeader(SessionMetricsResponseAdvice.HEADER);
+        assertThat(header).contains("statements=2;");
+
+        Map<String, Object> statistics = hibernateStatisticsEndpoint.statistics();
+        assertThat(statistics.get("enabled")).isEqualTo(true);
+        assertThat((Long) statistics.get("queryExecutionCount")).isGreaterThanOrEqualTo(2);
+    }
+}
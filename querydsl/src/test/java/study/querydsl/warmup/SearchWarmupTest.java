@@ -0,0 +1,61 @@
+package study.querydsl.warmup;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchWarmupTest {
+
+    /**
+     * pass 가 실행될 때마다 주어진 시간 (ms) 만큼 흐르는 시계
+     */
+    static class FakeClock {
+        long nanos;
+        final Deque<Long> passMillis;
+
+        FakeClock(Long... passMillis) {
+            this.passMillis = new ArrayDeque<>(List.of(passMillis));
+        }
+
+        void pass() {
+            nanos += Duration.ofMillis(passMillis.isEmpty() ? 1 : passMillis.poll()).toNanos();
+        }
+    }
+
+    @Test
+    public void stopsWhenPassTimeConverges() {
+        FakeClock clock = new FakeClock(100L, 40L, 20L, 19L, 19L, 19L);
+
+        List<Long> passes = SearchWarmup.repeatUntilConverged(clock::pass, Duration.ofSeconds(10), 0.05, () -> clock.nanos);
+
+        // 20ms -> 19ms 에서 5% 이내로 수렴, budget 이 남아도 더 돌지 않음
+        assertThat(passes).hasSize(4);
+        assertThat(clock.nanos).isEqualTo(Duration.ofMillis(179).toNanos());
+    }
+
+    @Test
+    public void budgetIsHardCap() {
+        // pass 시간이 들쭉날쭉하여 수렴하지 않는 경우
+        FakeClock clock = new FakeClock(100L, 200L, 100L, 200L, 100L, 200L);
+
+        List<Long> passes = SearchWarmup.repeatUntilConverged(clock::pass, Duration.ofMillis(500), 0.05, () -> clock.nanos);
+
+        // 100 + 200 + 100 = 400ms 이후 다음 pass 가 200ms 걸리면 500ms 를 넘기므로 중단
+        assertThat(passes).hasSize(3);
+        assertThat(clock.nanos).isLessThanOrEqualTo(Duration.ofMillis(500).toNanos());
+    }
+
+    @Test
+    public void firstPassAlwaysRuns() {
+        FakeClock clock = new FakeClock(500L);
+
+        List<Long> passes = SearchWarmup.repeatUntilConverged(clock::pass, Duration.ofMillis(100), 0.05, () -> clock.nanos);
+
+        assertThat(passes).hasSize(1);
+    }
+}